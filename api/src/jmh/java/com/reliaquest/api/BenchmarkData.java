@@ -0,0 +1,53 @@
+package com.reliaquest.api;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic synthetic employees for benchmarks. Names are drawn from small pools so that common fragments
+ * ("john", "son") hit many employees while rare ones hit few, much like real directories.
+ */
+public final class BenchmarkData {
+
+    private static final String[] FIRST_NAMES = {
+        "John", "Jane", "Robert", "Maria", "Michael", "Linda", "David", "Susan", "James", "Karen", "Ahmed", "Yuki",
+        "Olga", "Pedro", "Chen", "Fatima", "Liam", "Noah", "Emma", "Olivia", "Lucas", "Mateo", "Aisha", "Ivan"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+        "Nakamura", "Ivanova", "Okafor", "Schmidt", "Rossi", "Kowalski", "Nguyen", "Haddad", "Johansson", "Silva"
+    };
+
+    private static final String[] TITLES = {
+        "Engineer", "Senior Engineer", "Manager", "Director", "Analyst", "Designer", "Accountant", "Consultant"
+    };
+
+    private BenchmarkData() {}
+
+    public static List<Employee> employees(int count) {
+        return employees(count, 42L);
+    }
+
+    public static List<Employee> employees(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(Employee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name(firstName + " " + lastName)
+                    .salary(random.nextInt(30000, 500000))
+                    .age(random.nextInt(16, 70))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .email(firstName.toLowerCase() + "." + lastName.toLowerCase() + i + "@company.com")
+                    .build());
+        }
+        return employees;
+    }
+}
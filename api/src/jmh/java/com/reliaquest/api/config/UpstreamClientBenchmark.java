@@ -0,0 +1,94 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Compares the {@link UpstreamRequestFactories} connection layers against a running mock API. Start the server with
+ * its rate limit off first, e.g. {@code ./gradlew server:bootRun --args=--mock.rate-limit.enabled=false}, and point
+ * the benchmark elsewhere with {@code -jvmArgsAppend -Dmock.api.base-url=...}. Vary concurrency with {@code -t}; the
+ * h2c client multiplexes every thread over one connection where the others open one connection per thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class UpstreamClientBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Param({"simple", "apache", "jdk", "jdk-h2c"})
+    private String client;
+
+    private ClientHttpRequestFactory requestFactory;
+    private RestTemplate restTemplate;
+    private String baseUrl;
+    private String employeeUrl;
+
+    @Setup
+    public void setUp() {
+        requestFactory = switch (client) {
+            case "simple" -> UpstreamRequestFactories.simple(TIMEOUT, TIMEOUT);
+            case "apache" -> UpstreamRequestFactories.apache(
+                    64, TIMEOUT, TIMEOUT, Duration.ofSeconds(30), Duration.ofMinutes(5));
+            case "jdk" -> UpstreamRequestFactories.jdk(false, TIMEOUT, TIMEOUT);
+            case "jdk-h2c" -> UpstreamRequestFactories.jdk(true, TIMEOUT, TIMEOUT);
+            default -> throw new IllegalArgumentException(client);
+        };
+        restTemplate = new RestTemplate(requestFactory);
+        baseUrl = System.getProperty("mock.api.base-url", "http://localhost:8112/api/v1/employee");
+        employeeUrl = baseUrl + "/" + getAll().get(0).getId();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (requestFactory instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    @Benchmark
+    public List<Employee> getAllEmployees() {
+        return getAll();
+    }
+
+    @Benchmark
+    public Employee getEmployeeById() {
+        return restTemplate
+                .exchange(employeeUrl, HttpMethod.GET, null, new ParameterizedTypeReference<ApiResponse<Employee>>() {})
+                .getBody()
+                .getData();
+    }
+
+    private List<Employee> getAll() {
+        return restTemplate
+                .exchange(
+                        baseUrl, HttpMethod.GET, null, new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {})
+                .getBody()
+                .getData();
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.BenchmarkData;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link NameIndex#search} with the linear lower-case-and-contains filter it replaced, from 1k to 1M
+ * employees. Queries cover a common fragment, a rare full name, a miss, and a two-character query that takes the
+ * index's scan fallback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class NameIndexBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"john", "yuki nakamura", "zzz", "an"})
+    private String query;
+
+    private List<Employee> employees;
+    private NameIndex index;
+
+    @Setup
+    public void setUp() {
+        employees = BenchmarkData.employees(size);
+        index = NameIndex.of(employees);
+    }
+
+    @Benchmark
+    public List<Employee> trigramIndex() {
+        return index.search(query);
+    }
+
+    @Benchmark
+    public List<Employee> linearScan() {
+        String searchLower = query.toLowerCase();
+        return employees.stream()
+                .filter(emp -> emp.getName().toLowerCase().contains(searchLower))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.api.BenchmarkData;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Jackson round trips of {@link Employee}, whose {@code employee_} property names come from
+ * {@link Employee.PrefixNamingStrategy}: a single employee, and the mock API's list response from 50 to 1M employees.
+ * The readers and writers are built once, as Spring's message converters do, so the strategy's names are resolved in
+ * setup and only the per-call cost is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeSerdeBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private ObjectWriter employeeWriter;
+    private ObjectReader employeeReader;
+    private Employee employee;
+    private byte[] employeeJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        employeeWriter = OBJECT_MAPPER.writerFor(Employee.class);
+        employeeReader = OBJECT_MAPPER.readerFor(Employee.class);
+        employee = BenchmarkData.employees(1).get(0);
+        employeeJson = employeeWriter.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() throws Exception {
+        return employeeWriter.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public Employee deserializeEmployee() throws Exception {
+        return employeeReader.readValue(employeeJson);
+    }
+
+    @Benchmark
+    public byte[] serializeList(EmployeeList list) throws Exception {
+        return list.writer.writeValueAsBytes(list.response);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> deserializeList(EmployeeList list) throws Exception {
+        return list.reader.readValue(list.json);
+    }
+
+    /**
+     * The list response, sized separately so the single-employee benchmarks run once rather than once per size.
+     */
+    @State(Scope.Benchmark)
+    public static class EmployeeList {
+
+        @Param({"50", "1000", "100000", "1000000"})
+        private int size;
+
+        private ObjectWriter writer;
+        private ObjectReader reader;
+        private ApiResponse<List<Employee>> response;
+        private byte[] json;
+
+        @Setup
+        public void setUp() throws Exception {
+            TypeReference<ApiResponse<List<Employee>>> type = new TypeReference<>() {};
+            writer = OBJECT_MAPPER.writerFor(type);
+            reader = OBJECT_MAPPER.readerFor(type);
+            response = new ApiResponse<>(BenchmarkData.employees(size), "Successfully processed request.", null);
+            json = writer.writeValueAsBytes(response);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.BenchmarkData;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares building an {@link EmployeeSnapshot} from a mock API response by binding the whole
+ * {@code ApiResponse<List<Employee>>} first, as the client used to, with streaming it through
+ * {@link EmployeeListParser} from a stream and from 8KB buffers. Run with {@code -prof gc} to compare allocation per
+ * operation; the heap is capped so the 1M case shows the peak-heap difference as GC pressure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EmployeeIngestBenchmark {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private EmployeeListParser parser;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        parser = new EmployeeListParser(objectMapper);
+        body = objectMapper.writeValueAsBytes(
+                new ApiResponse<>(BenchmarkData.employees(size), "Successfully processed request.", null));
+    }
+
+    @Benchmark
+    public EmployeeSnapshot bindListThenIndex() throws Exception {
+        ApiResponse<List<Employee>> response =
+                objectMapper.readValue(body, new TypeReference<ApiResponse<List<Employee>>>() {});
+        return EmployeeSnapshot.of(response.getData());
+    }
+
+    @Benchmark
+    public EmployeeSnapshot streamFromInputStream() {
+        EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder();
+        parser.parse(new ByteArrayInputStream(body), builder);
+        return builder.build(0);
+    }
+
+    @Benchmark
+    public EmployeeSnapshot streamFromBuffers() {
+        EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder();
+        EmployeeListParser.Feed feed = parser.feed(builder);
+        for (int offset = 0; offset < body.length; offset += BUFFER_SIZE) {
+            feed.accept(ByteBuffer.wrap(body, offset, Math.min(BUFFER_SIZE, body.length - offset)));
+        }
+        feed.finish();
+        return builder.build(0);
+    }
+}
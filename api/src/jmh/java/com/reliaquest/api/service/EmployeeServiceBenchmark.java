@@ -0,0 +1,150 @@
+package com.reliaquest.api.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.BenchmarkData;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.resilience.RequestPriority;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * The {@link EmployeeService} read paths as the controller calls them, from 50 to 1M employees, served from a warm
+ * {@link EmployeeSnapshotCache}. The mock API is replaced by an in-memory list, so only the service, cache and index
+ * work is measured. Run with {@code -prof gc} (the {@code jmh} task's default) to see allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    private int size;
+
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(EmployeeSnapshotCache.CACHE_NAME);
+        cacheManager.setCaffeine(Caffeine.newBuilder().recordStats());
+        EmployeeApiClient apiClient = new InMemoryEmployeeApiClient(BenchmarkData.employees(size));
+        employeeService = new EmployeeService(apiClient, new EmployeeSnapshotCache(apiClient, cacheManager));
+        // Load the snapshot outside the measurement.
+        employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public List<Employee> searchEmployeesByName(Search search) {
+        return employeeService.searchEmployeesByName(search.query);
+    }
+
+    @Benchmark
+    public Integer getHighestSalary() {
+        return employeeService.getHighestSalary();
+    }
+
+    @Benchmark
+    public List<String> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames();
+    }
+
+    /**
+     * A common fragment and a miss. Kept out of the outer state so only the search benchmark runs once per query.
+     */
+    @State(Scope.Benchmark)
+    public static class Search {
+
+        @Param({"john", "zzz"})
+        private String query;
+    }
+
+    /**
+     * The mock API over an in-memory list, in list order. A page cursor is the employee's index in the list.
+     */
+    private static final class InMemoryEmployeeApiClient implements EmployeeApiClient {
+
+        private final List<Employee> employees;
+
+        InMemoryEmployeeApiClient(List<Employee> employees) {
+            this.employees = new CopyOnWriteArrayList<>(employees);
+        }
+
+        @Override
+        public CompletableFuture<Integer> streamAllEmployeesAsync(RequestPriority priority, Consumer<Employee> sink) {
+            List<Employee> snapshot = List.copyOf(employees);
+            snapshot.forEach(sink);
+            return CompletableFuture.completedFuture(snapshot.size());
+        }
+
+        @Override
+        public CompletableFuture<Page> streamEmployeePageAsync(
+                RequestPriority priority, Long after, Long until, int limit, Consumer<Employee> sink) {
+            List<Employee> snapshot = List.copyOf(employees);
+            int from = after == null ? 0 : (int) Math.min(after + 1, snapshot.size());
+            int end = until == null ? snapshot.size() : (int) Math.min(until + 1, snapshot.size());
+            int to = Math.max(from, Math.min(end, from + limit));
+            snapshot.subList(from, to).forEach(sink);
+            Long nextCursor = to < end ? (long) to - 1 : null;
+            Long endCursor = snapshot.isEmpty() ? null : (long) snapshot.size() - 1;
+            return CompletableFuture.completedFuture(new Page(to - from, nextCursor, endCursor));
+        }
+
+        @Override
+        public CompletableFuture<Employee> getEmployeeByIdAsync(String id) {
+            return employees.stream()
+                    .filter(employee -> employee.getId().toString().equals(id))
+                    .findFirst()
+                    .map(CompletableFuture::completedFuture)
+                    .orElseGet(() -> CompletableFuture.failedFuture(
+                            new EmployeeNotFoundException("Employee with id " + id + " not found")));
+        }
+
+        @Override
+        public CompletableFuture<Employee> createEmployeeAsync(EmployeeInput input) {
+            Employee employee = Employee.builder()
+                    .id(UUID.randomUUID())
+                    .name(input.getName())
+                    .salary(input.getSalary())
+                    .age(input.getAge())
+                    .title(input.getTitle())
+                    .email(input.getName().toLowerCase().replaceAll("\\s+", "") + "@company.com")
+                    .build();
+            employees.add(employee);
+            return CompletableFuture.completedFuture(employee);
+        }
+
+        @Override
+        public CompletableFuture<Boolean> deleteEmployeeByNameAsync(String name) {
+            synchronized (employees) {
+                for (int i = 0; i < employees.size(); i++) {
+                    if (employees.get(i).getName().equalsIgnoreCase(name)) {
+                        employees.remove(i);
+                        return CompletableFuture.completedFuture(true);
+                    }
+                }
+            }
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+}
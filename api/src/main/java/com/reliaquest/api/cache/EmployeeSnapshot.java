@@ -0,0 +1,295 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.index.NameIndex;
+import com.reliaquest.api.index.SalaryIndex;
+import com.reliaquest.api.model.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Immutable view of the employee list as last fetched from the mock API, together with the indexes derived from it.
+ * Indexes are built once per snapshot, so read endpoints never re-scan or re-sort the list, and id lookups are served
+ * from a hash index instead of the mock API.
+ *
+ * <p>Writes never modify a snapshot. {@link #withAdded} and {@link #withRemoved} return a new snapshot with a higher
+ * {@link #getVersion() version}, so readers holding the previous one keep a consistent list and indexes.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EmployeeSnapshot {
+
+    private final List<Employee> employees;
+    private final SalaryIndex salaryIndex;
+    private final NameIndex nameIndex;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, Employee> employeesById;
+
+    private final Instant loadedAt;
+    private final long version;
+
+    public static EmployeeSnapshot of(List<Employee> employees) {
+        return of(employees, 0);
+    }
+
+    public static EmployeeSnapshot of(List<Employee> employees, long version) {
+        Builder builder = builder();
+        employees.forEach(builder);
+        return builder.build(version);
+    }
+
+    /**
+     * @return a builder that indexes employees as they arrive, so a list streamed from the mock API never has to be
+     *     held in full before the snapshot is built
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return employees.size();
+    }
+
+    public Duration age() {
+        return age(Clock.systemUTC());
+    }
+
+    public Duration age(Clock clock) {
+        return Duration.between(loadedAt, clock.instant());
+    }
+
+    public Optional<Employee> findById(UUID id) {
+        return Optional.ofNullable(employeesById.get(id));
+    }
+
+    /**
+     * Mirrors the mock API's delete, which removes the first employee whose name matches ignoring case.
+     */
+    public Optional<Employee> findFirstByName(String name) {
+        return employees.stream()
+                .filter(employee -> Objects.nonNull(employee.getName())
+                        && employee.getName().equalsIgnoreCase(name))
+                .findFirst();
+    }
+
+    /**
+     * Mirrors a run of the mock API's deletes by name: each name resolves to the first employee with that name,
+     * ignoring case, that an earlier name in the run has not already resolved to. One pass over the list serves the
+     * whole run.
+     *
+     * @return the resolved employees, in the order of {@code names}; names with no employee left are skipped
+     */
+    public List<Employee> findFirstByNames(List<String> names) {
+        Map<String, Integer> wanted = new HashMap<>();
+        for (String name : names) {
+            if (name != null) {
+                wanted.merge(NameIndex.normalize(name), 1, Integer::sum);
+            }
+        }
+        Map<String, Deque<Employee>> matches = new HashMap<>();
+        for (Employee employee : employees) {
+            if (employee.getName() == null) {
+                continue;
+            }
+            String name = NameIndex.normalize(employee.getName());
+            Integer count = wanted.get(name);
+            if (count != null) {
+                Deque<Employee> found = matches.computeIfAbsent(name, ignored -> new ArrayDeque<>());
+                if (found.size() < count) {
+                    found.add(employee);
+                }
+            }
+        }
+        List<Employee> resolved = new ArrayList<>(names.size());
+        for (String name : names) {
+            Deque<Employee> found = name == null ? null : matches.get(NameIndex.normalize(name));
+            if (found != null && !found.isEmpty()) {
+                resolved.add(found.poll());
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * @return a snapshot with {@code employee} appended, or this snapshot if an employee with its id is present
+     */
+    public EmployeeSnapshot withAdded(Employee employee, long version) {
+        if (findById(employee.getId()).isPresent()) {
+            return this;
+        }
+        List<Employee> nextEmployees = new ArrayList<>(employees.size() + 1);
+        nextEmployees.addAll(employees);
+        nextEmployees.add(employee);
+
+        SalaryIndex nextSalaryIndex = salaryIndex.copy();
+        nextSalaryIndex.add(employee);
+
+        Map<UUID, Employee> nextEmployeesById = new HashMap<>(employeesById);
+        nextEmployeesById.put(employee.getId(), employee);
+
+        return new EmployeeSnapshot(
+                Collections.unmodifiableList(nextEmployees),
+                nextSalaryIndex,
+                nameIndex.withAdded(employee),
+                nextEmployeesById,
+                loadedAt,
+                version);
+    }
+
+    /**
+     * @return a snapshot with each of {@code added} whose id is not present appended in order, or this snapshot if
+     *     there are none. The list and indexes are copied once for the whole batch.
+     */
+    public EmployeeSnapshot withAddedAll(Collection<Employee> added, long version) {
+        Map<UUID, Employee> nextEmployeesById = new HashMap<>(employeesById);
+        List<Employee> appended = new ArrayList<>(added.size());
+        for (Employee employee : added) {
+            if (nextEmployeesById.putIfAbsent(employee.getId(), employee) == null) {
+                appended.add(employee);
+            }
+        }
+        if (appended.isEmpty()) {
+            return this;
+        }
+        List<Employee> nextEmployees = new ArrayList<>(employees.size() + appended.size());
+        nextEmployees.addAll(employees);
+        nextEmployees.addAll(appended);
+
+        SalaryIndex nextSalaryIndex = salaryIndex.copy();
+        appended.forEach(nextSalaryIndex::add);
+
+        return new EmployeeSnapshot(
+                Collections.unmodifiableList(nextEmployees),
+                nextSalaryIndex,
+                nameIndex.withAddedAll(appended),
+                nextEmployeesById,
+                loadedAt,
+                version);
+    }
+
+    /**
+     * @return a snapshot without the employee with the given id, or this snapshot if there is none
+     */
+    public EmployeeSnapshot withRemoved(UUID id, long version) {
+        Optional<Employee> removed = findById(id);
+        if (removed.isEmpty()) {
+            return this;
+        }
+        List<Employee> nextEmployees = new ArrayList<>(employees);
+        nextEmployees.remove(removed.get());
+
+        SalaryIndex nextSalaryIndex = salaryIndex.copy();
+        nextSalaryIndex.remove(removed.get());
+
+        Map<UUID, Employee> nextEmployeesById = new HashMap<>(employeesById);
+        nextEmployeesById.remove(id);
+
+        return new EmployeeSnapshot(
+                Collections.unmodifiableList(nextEmployees),
+                nextSalaryIndex,
+                nameIndex.withRemoved(removed.get()),
+                nextEmployeesById,
+                loadedAt,
+                version);
+    }
+
+    /**
+     * @return a snapshot without the employees with the given ids, or this snapshot if none of them are present. The
+     *     list and indexes are copied once for the whole batch.
+     */
+    public EmployeeSnapshot withRemovedAll(Collection<UUID> ids, long version) {
+        Map<UUID, Employee> nextEmployeesById = new HashMap<>(employeesById);
+        Set<UUID> removedIds = new HashSet<>();
+        List<Employee> removed = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            Employee employee = nextEmployeesById.remove(id);
+            if (employee != null) {
+                removedIds.add(id);
+                removed.add(employee);
+            }
+        }
+        if (removed.isEmpty()) {
+            return this;
+        }
+        List<Employee> nextEmployees = new ArrayList<>(employees.size() - removed.size());
+        for (Employee employee : employees) {
+            if (!removedIds.contains(employee.getId())) {
+                nextEmployees.add(employee);
+            }
+        }
+
+        SalaryIndex nextSalaryIndex = salaryIndex.copy();
+        nextSalaryIndex.removeAll(removed);
+
+        return new EmployeeSnapshot(
+                Collections.unmodifiableList(nextEmployees),
+                nextSalaryIndex,
+                nameIndex.withRemovedAll(removed),
+                nextEmployeesById,
+                loadedAt,
+                version);
+    }
+
+    /**
+     * Adds each employee to the list, the id index and both index builders as it arrives. Single use: the snapshot
+     * takes over the builder's storage.
+     */
+    public static final class Builder implements Consumer<Employee> {
+
+        private final List<Employee> employees = new ArrayList<>();
+        private final Map<UUID, Employee> employeesById = new HashMap<>();
+        private final SalaryIndex.Builder salaryIndex = SalaryIndex.builder();
+        private final NameIndex.Builder nameIndex = NameIndex.builder();
+
+        private Builder() {}
+
+        @Override
+        public void accept(Employee employee) {
+            Objects.requireNonNull(employee, "employee");
+            employees.add(employee);
+            employeesById.putIfAbsent(employee.getId(), employee);
+            salaryIndex.add(employee);
+            nameIndex.add(employee);
+        }
+
+        public int size() {
+            return employees.size();
+        }
+
+        public EmployeeSnapshot build(long version) {
+            return build(version, Instant.now());
+        }
+
+        /**
+         * @param loadedAt when the employees were read from the mock API, which is earlier than now for a snapshot
+         *     restored from a file
+         */
+        public EmployeeSnapshot build(long version, Instant loadedAt) {
+            return new EmployeeSnapshot(
+                    Collections.unmodifiableList(employees),
+                    salaryIndex.build(),
+                    nameIndex.build(),
+                    employeesById,
+                    loadedAt,
+                    version);
+        }
+    }
+}
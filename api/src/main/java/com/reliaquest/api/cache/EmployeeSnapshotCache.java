@@ -0,0 +1,544 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.resilience.RequestPriority;
+import com.reliaquest.api.service.EmployeeApiClient;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the current {@link EmployeeSnapshot} in the {@value #CACHE_NAME} cache.
+ *
+ * <p>All read paths in {@code EmployeeService} go through this component rather than a self-invoked
+ * {@code @Cacheable} method, which Spring's proxy would bypass. Concurrent misses are collapsed by a
+ * {@link SingleFlight}, so an expired or evicted entry costs one upstream call no matter how many requests miss it.
+ *
+ * <p>With refresh-ahead enabled, a snapshot older than {@code mock.api.cache.refresh-after} is still returned to the
+ * reader while a single background reload replaces it. If the reload fails, for example because the mock API is
+ * rate limiting, readers keep the stale snapshot until it is older than {@code mock.api.cache.max-stale}, after which
+ * the next reader loads synchronously. Background reloads are sent at {@link RequestPriority#LOW low priority}, so the
+ * rate limiter sheds them before they can use up the mock API's budget.
+ *
+ * <p>Loads stream the mock API's list straight into an {@link EmployeeSnapshot.Builder}, which indexes each employee
+ * as it is parsed, so the list is never held twice. With {@code mock.api.paging.enabled}, the list is instead read
+ * from the mock API's paginated endpoint with {@code mock.api.paging.partitions} pages in flight, which buffers all
+ * but the first page until the read completes.
+ *
+ * <p>While the mock API client's circuit breaker is open, a load fails with {@link UpstreamUnavailableException}.
+ * Readers then get the last snapshot this cache published, however old, rather than an error; only a cache that has
+ * never loaded fails.
+ *
+ * <p>Creates and deletes patch the cached snapshot through {@link #added} and {@link #removed} instead of evicting it.
+ * Patches are serialized by a lock and published as a new snapshot version, so readers never see a half-applied
+ * change. A patch made while a load is in flight is replayed onto the loaded list before it is published; patches are
+ * idempotent, so replaying one the upstream list already reflects is harmless.
+ *
+ * <p>With {@code mock.api.cache.persistence.enabled}, every loaded snapshot is also written to
+ * {@code mock.api.cache.persistence.file} in the background, and the latest one, patches included, on shutdown. On
+ * startup a readable file is mapped back in as the cached snapshot before the first request, and a background reload
+ * reconciles it with the mock API straight away. The restored snapshot keeps the time it was loaded from the mock API,
+ * so its age, {@code max-stale} and {@code lookup-max-age} count from then: a restart shortly after shutdown serves
+ * reads without waiting on the mock API, while a file older than {@code max-stale} is only served, like any other
+ * last known snapshot, while the mock API is unavailable.
+ */
+@Slf4j
+@Component
+public class EmployeeSnapshotCache implements MeterBinder {
+
+    public static final String CACHE_NAME = "employees";
+
+    private static final String SNAPSHOT_KEY = "snapshot";
+
+    private final EmployeeApiClient employeeApiClient;
+    private final CacheManager cacheManager;
+
+    /**
+     * Stamps loaded snapshots and measures their age against {@code max-stale}, {@code refresh-after} and
+     * {@code lookup-max-age}.
+     */
+    private final Clock clock;
+    private final SingleFlight<String, EmployeeSnapshot> loads = new SingleFlight<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final List<SnapshotPatch> pendingPatches = new ArrayList<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ReentrantLock persistLock = new ReentrantLock();
+    private final AtomicReference<EmployeeSnapshot> pendingPersist = new AtomicReference<>();
+
+    private int loadsInFlight;
+
+    /**
+     * Version of the snapshot last written to the persistence file. Written under persistLock.
+     */
+    private volatile long persistedVersion;
+
+    /**
+     * The snapshot last put in the cache, kept after the cache expires it so there is something to serve while the
+     * mock API is unavailable. Written under writeLock.
+     */
+    private volatile EmployeeSnapshot lastKnown;
+
+    @Value("${mock.api.cache.refresh-ahead.enabled:false}")
+    private boolean refreshAheadEnabled;
+
+    @Value("${mock.api.cache.refresh-after:45s}")
+    private Duration refreshAfter = Duration.ofSeconds(45);
+
+    @Value("${mock.api.cache.max-stale:1m}")
+    private Duration maxStale = Duration.ofMinutes(1);
+
+    @Value("${mock.api.cache.lookup-max-age:1m}")
+    private Duration lookupMaxAge = Duration.ofMinutes(1);
+
+    @Value("${mock.api.paging.enabled:false}")
+    private boolean pagingEnabled;
+
+    @Value("${mock.api.paging.page-size:500}")
+    private int pageSize = 500;
+
+    @Value("${mock.api.paging.partitions:4}")
+    private int pagePartitions = 4;
+
+    @Value("${mock.api.cache.persistence.enabled:false}")
+    private boolean persistenceEnabled;
+
+    @Value("${mock.api.cache.persistence.file:employee-snapshot.bin}")
+    private Path persistenceFile = Path.of("employee-snapshot.bin");
+
+    @Autowired
+    public EmployeeSnapshotCache(EmployeeApiClient employeeApiClient, CacheManager cacheManager) {
+        this(employeeApiClient, cacheManager, Clock.systemUTC());
+    }
+
+    EmployeeSnapshotCache(EmployeeApiClient employeeApiClient, CacheManager cacheManager, Clock clock) {
+        this.employeeApiClient = employeeApiClient;
+        this.cacheManager = cacheManager;
+        this.clock = clock;
+    }
+
+    public EmployeeSnapshot current() {
+        EmployeeSnapshot snapshot = peek();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        try {
+            return loads.execute(SNAPSHOT_KEY, this::load);
+        } catch (UpstreamUnavailableException e) {
+            return lastKnown(e);
+        }
+    }
+
+    /**
+     * Like {@link #current}, but a load runs on the mock API client's threads instead of the caller's, so a request
+     * thread is never blocked on the mock API.
+     */
+    public CompletableFuture<EmployeeSnapshot> currentAsync() {
+        EmployeeSnapshot snapshot = peek();
+        if (snapshot != null) {
+            return CompletableFuture.completedFuture(snapshot);
+        }
+        return loads.executeAsync(SNAPSHOT_KEY, this::loadAsync).exceptionally(failure -> {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause()
+                    : failure;
+            if (cause instanceof UpstreamUnavailableException e) {
+                return lastKnown(e);
+            }
+            throw failure instanceof CompletionException completion ? completion : new CompletionException(failure);
+        });
+    }
+
+    /**
+     * Returns the cached snapshot when {@link #current} would serve it without loading, scheduling a refresh-ahead as
+     * {@link #current} does, or null when a reader would have to wait for a load.
+     */
+    public EmployeeSnapshot peek() {
+        EmployeeSnapshot snapshot = cached();
+        if (snapshot == null || snapshot.age(clock).compareTo(maxStale) > 0) {
+            return null;
+        }
+        if (refreshAheadEnabled && snapshot.age(clock).compareTo(refreshAfter) >= 0) {
+            refreshInBackground();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Looks an employee up in the cached snapshot without loading one. Returns empty when nothing is cached, the
+     * snapshot is older than {@code mock.api.cache.lookup-max-age}, or the id is not in it; callers should then ask
+     * the mock API, which may know about employees created elsewhere.
+     */
+    public Optional<Employee> lookup(UUID id) {
+        EmployeeSnapshot snapshot = cached();
+        if (snapshot == null || snapshot.age(clock).compareTo(lookupMaxAge) > 0) {
+            return Optional.empty();
+        }
+        return snapshot.findById(id);
+    }
+
+    /**
+     * Looks an employee up in the last published snapshot regardless of its age, for when the mock API is unavailable.
+     */
+    public Optional<Employee> lookupLastKnown(UUID id) {
+        EmployeeSnapshot snapshot = lastKnown;
+        return snapshot == null ? Optional.empty() : snapshot.findById(id);
+    }
+
+    /**
+     * Applies an employee the mock API has just created to the cached snapshot.
+     */
+    public void added(Employee employee) {
+        patch(snapshot -> snapshot.withAdded(employee, versions.incrementAndGet()));
+    }
+
+    /**
+     * Applies employees the mock API has just created in bulk as a single patch, publishing one snapshot version for
+     * the whole batch.
+     */
+    public void addedAll(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        patch(snapshot -> snapshot.withAddedAll(employees, versions.incrementAndGet()));
+    }
+
+    /**
+     * Applies a delete the mock API has just performed for {@code employee}'s name. The mock API deletes the first
+     * employee with that name, so that employee is removed from the snapshot even if it is not {@code employee}.
+     */
+    public void removed(Employee employee) {
+        writeLock.lock();
+        try {
+            EmployeeSnapshot snapshot = cached();
+            Employee deleted = snapshot == null
+                    ? employee
+                    : snapshot.findFirstByName(employee.getName()).orElse(employee);
+            patch(current -> current.withRemoved(deleted.getId(), versions.incrementAndGet()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Applies a batch of deletes the mock API has just performed for {@code employees}' names as a single patch. As
+     * with {@link #removed}, each delete removes the first employee with its name, skipping any an earlier delete in
+     * the batch already removed.
+     */
+    public void removedAll(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            EmployeeSnapshot snapshot = cached();
+            List<Employee> deleted = snapshot == null
+                    ? employees
+                    : snapshot.findFirstByNames(employees.stream().map(Employee::getName).toList());
+            List<UUID> ids = deleted.stream().map(Employee::getId).toList();
+            patch(current -> current.withRemovedAll(ids, versions.incrementAndGet()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employees.snapshot.loads", loads, SingleFlight::executions)
+                .description("Employee list loads from the mock API")
+                .register(registry);
+        FunctionCounter.builder("employees.snapshot.coalesced", loads, SingleFlight::coalesced)
+                .description("Cache misses that waited on an in-flight load instead of calling the mock API")
+                .register(registry);
+        Gauge.builder("employees.snapshot.loads.active", loads, SingleFlight::inFlight)
+                .description("Employee list loads currently in flight")
+                .register(registry);
+        Gauge.builder("employees.snapshot.size", this, cache -> {
+                    EmployeeSnapshot snapshot = cache.cached();
+                    return snapshot == null ? Double.NaN : snapshot.size();
+                })
+                .description("Employees in the cached snapshot")
+                .register(registry);
+        Gauge.builder("employees.snapshot.age", this, cache -> {
+                    EmployeeSnapshot snapshot = cache.cached();
+                    return snapshot == null ? Double.NaN : snapshot.age(clock).toMillis() / 1000.0;
+                })
+                .description("Age of the cached employee snapshot")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    /**
+     * Publishes the snapshot in the persistence file, if there is a readable one, and starts reconciling it with the
+     * mock API. An unreadable file is logged and ignored; the first reader then loads as if there were none.
+     */
+    @PostConstruct
+    void restore() {
+        if (!persistenceEnabled || !Files.isRegularFile(persistenceFile)) {
+            return;
+        }
+        long started = System.nanoTime();
+        EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder();
+        SnapshotFile.Header header;
+        try {
+            header = SnapshotFile.read(persistenceFile, builder);
+        } catch (IOException e) {
+            log.warn("Ignoring employee snapshot file {}: {}", persistenceFile, e.getMessage());
+            return;
+        }
+        writeLock.lock();
+        try {
+            EmployeeSnapshot snapshot = builder.build(versions.incrementAndGet(), header.loadedAt());
+            cache().put(SNAPSHOT_KEY, snapshot);
+            lastKnown = snapshot;
+            persistedVersion = snapshot.getVersion();
+        } finally {
+            writeLock.unlock();
+        }
+        log.info(
+                "Restored {} employees loaded at {} from {} in {}ms",
+                header.count(),
+                header.loadedAt(),
+                persistenceFile,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+        refreshInBackground();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+        if (persistenceEnabled) {
+            EmployeeSnapshot snapshot = lastKnown;
+            if (snapshot != null) {
+                persist(snapshot);
+            }
+        }
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    loads.execute(SNAPSHOT_KEY, () -> reload(RequestPriority.LOW));
+                } catch (RuntimeException e) {
+                    log.warn("Background refresh of employee snapshot failed, serving stale data: {}", e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    private EmployeeSnapshot load() {
+        // Another caller may have finished loading between our miss and taking the lead.
+        EmployeeSnapshot snapshot = cached();
+        if (snapshot != null && snapshot.age(clock).compareTo(maxStale) <= 0) {
+            return snapshot;
+        }
+        log.info("Employee snapshot not cached, loading from mock API");
+        return reload(RequestPriority.HIGH);
+    }
+
+    private CompletableFuture<EmployeeSnapshot> loadAsync() {
+        EmployeeSnapshot snapshot = cached();
+        if (snapshot != null && snapshot.age(clock).compareTo(maxStale) <= 0) {
+            return CompletableFuture.completedFuture(snapshot);
+        }
+        log.info("Employee snapshot not cached, loading from mock API");
+        loadStarted();
+        EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder();
+        CompletableFuture<Integer> streamed;
+        try {
+            streamed = pagingEnabled
+                    ? employeeApiClient.streamAllEmployeesPagedAsync(
+                            RequestPriority.HIGH, pageSize, pagePartitions, builder)
+                    : employeeApiClient.streamAllEmployeesAsync(RequestPriority.HIGH, builder);
+        } catch (RuntimeException e) {
+            loadFinished();
+            throw e;
+        }
+        return streamed.thenApply(count -> install(builder)).whenComplete((ignored, failure) -> loadFinished());
+    }
+
+    private EmployeeSnapshot reload(RequestPriority priority) {
+        loadStarted();
+        try {
+            EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder();
+            if (pagingEnabled) {
+                employeeApiClient.streamAllEmployeesPaged(priority, pageSize, pagePartitions, builder);
+            } else {
+                employeeApiClient.streamAllEmployees(priority, builder);
+            }
+            return install(builder);
+        } finally {
+            loadFinished();
+        }
+    }
+
+    private void loadStarted() {
+        writeLock.lock();
+        try {
+            loadsInFlight++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Publishes a freshly streamed snapshot, replaying the patches made while it was in flight.
+     */
+    private EmployeeSnapshot install(EmployeeSnapshot.Builder builder) {
+        writeLock.lock();
+        try {
+            EmployeeSnapshot snapshot = builder.build(versions.incrementAndGet(), clock.instant());
+            for (SnapshotPatch patch : pendingPatches) {
+                snapshot = patch.apply(snapshot);
+            }
+            cache().put(SNAPSHOT_KEY, snapshot);
+            lastKnown = snapshot;
+            log.info("Cached employee snapshot version {} with {} employees", snapshot.getVersion(), snapshot.size());
+            persistInBackground(snapshot);
+            return snapshot;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Queues {@code snapshot} to be written on the refresh thread. Writes queued faster than they complete collapse
+     * into one write of the newest snapshot.
+     */
+    private void persistInBackground(EmployeeSnapshot snapshot) {
+        if (!persistenceEnabled || pendingPersist.getAndSet(snapshot) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> persist(pendingPersist.getAndSet(null)));
+        } catch (RejectedExecutionException e) {
+            // Shutting down; shutdown() writes the last snapshot itself.
+            pendingPersist.set(null);
+        }
+    }
+
+    private void persist(EmployeeSnapshot snapshot) {
+        persistLock.lock();
+        try {
+            if (snapshot.getVersion() <= persistedVersion) {
+                return;
+            }
+            long started = System.nanoTime();
+            SnapshotFile.write(snapshot, persistenceFile);
+            persistedVersion = snapshot.getVersion();
+            log.debug(
+                    "Wrote employee snapshot version {} to {} in {}ms",
+                    snapshot.getVersion(),
+                    persistenceFile,
+                    Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (IOException e) {
+            log.warn("Failed to write employee snapshot to {}: {}", persistenceFile, e.getMessage());
+        } finally {
+            persistLock.unlock();
+        }
+    }
+
+    private void loadFinished() {
+        writeLock.lock();
+        try {
+            if (--loadsInFlight == 0) {
+                pendingPatches.clear();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void patch(SnapshotPatch patch) {
+        writeLock.lock();
+        try {
+            if (loadsInFlight > 0) {
+                pendingPatches.add(patch);
+            }
+            EmployeeSnapshot snapshot = cached();
+            if (snapshot == null) {
+                if (lastKnown != null) {
+                    lastKnown = patch.apply(lastKnown);
+                }
+                return;
+            }
+            EmployeeSnapshot patched = patch.apply(snapshot);
+            if (patched != snapshot) {
+                cache().put(SNAPSHOT_KEY, patched);
+                lastKnown = patched;
+                log.debug("Patched employee snapshot to version {}", patched.getVersion());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private EmployeeSnapshot lastKnown(UpstreamUnavailableException e) {
+        EmployeeSnapshot snapshot = lastKnown;
+        if (snapshot == null) {
+            throw e;
+        }
+        log.warn(
+                "{}; serving employee snapshot version {} loaded {}s ago",
+                e.getMessage(),
+                snapshot.getVersion(),
+                snapshot.age(clock).toSeconds());
+        return snapshot;
+    }
+
+    private EmployeeSnapshot cached() {
+        return cache().get(SNAPSHOT_KEY, EmployeeSnapshot.class);
+    }
+
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), "Cache not configured: " + CACHE_NAME);
+    }
+
+    @FunctionalInterface
+    private interface SnapshotPatch {
+        EmployeeSnapshot apply(EmployeeSnapshot snapshot);
+    }
+}
@@ -0,0 +1,225 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Binary form of an {@link EmployeeSnapshot}'s employees, written and read through a memory-mapped file so a restart
+ * can serve the last snapshot before the mock API has answered.
+ *
+ * <p>The layout is big-endian. A {@value #HEADER_BYTES}-byte header holds the magic {@code "EMPS"}, the format
+ * version, the snapshot version, its load time in epoch millis, the employee count and a CRC32 of everything after
+ * the header. One record per employee follows: a flags byte saying which of id, salary and age are present, the id
+ * as two longs, salary and age as ints, then name, title and email as length-prefixed UTF-8, with length {@code -1}
+ * for null. Reading decodes records straight from the mapped pages into a sink, so there is no text to tokenize and
+ * no intermediate list.
+ */
+final class SnapshotFile {
+
+    static final int MAGIC = 0x454D5053;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 32;
+
+    private static final int FIXED_RECORD_BYTES = 16 + 1 + 4 + 4 + 3 * 4;
+    private static final byte HAS_SALARY = 1;
+    private static final byte HAS_AGE = 2;
+    private static final byte HAS_ID = 4;
+
+    private SnapshotFile() {}
+
+    /**
+     * What the header of a snapshot file says about the snapshot it holds.
+     */
+    record Header(long version, Instant loadedAt, int count) {}
+
+    /**
+     * Writes {@code snapshot} to a temporary file next to {@code file} and moves it into place, so a crash mid-write
+     * leaves the previous file intact.
+     */
+    static void write(EmployeeSnapshot snapshot, Path file) throws IOException {
+        List<Employee> employees = snapshot.getEmployees();
+        long size = HEADER_BYTES;
+        for (Employee employee : employees) {
+            size += FIXED_RECORD_BYTES
+                    + utf8Length(employee.getName())
+                    + utf8Length(employee.getTitle())
+                    + utf8Length(employee.getEmail());
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException(
+                    "Snapshot of " + employees.size() + " employees is too large to map: " + size + " bytes");
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                temp,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.position(HEADER_BYTES);
+            for (Employee employee : employees) {
+                writeRecord(buffer, employee);
+            }
+            buffer.putInt(0, MAGIC)
+                    .putInt(4, FORMAT_VERSION)
+                    .putLong(8, snapshot.getVersion())
+                    .putLong(16, snapshot.getLoadedAt().toEpochMilli())
+                    .putInt(24, employees.size())
+                    .putInt(28, checksum(buffer, (int) size));
+            buffer.force();
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Passes each employee in {@code file} to {@code sink}, in the order they were written.
+     *
+     * @throws IOException if the file cannot be read, is not a snapshot file of this format, or fails its checksum
+     */
+    static Header read(Path file, Consumer<Employee> sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a snapshot file, size " + size + " bytes");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a snapshot file, bad magic");
+            }
+            if (buffer.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot format version " + buffer.getInt(4));
+            }
+            if (buffer.getInt(28) != checksum(buffer, (int) size)) {
+                throw new IOException("Snapshot file is corrupt, checksum mismatch");
+            }
+            Header header =
+                    new Header(buffer.getLong(8), Instant.ofEpochMilli(buffer.getLong(16)), buffer.getInt(24));
+
+            buffer.position(HEADER_BYTES);
+            for (int i = 0; i < header.count(); i++) {
+                sink.accept(readRecord(buffer));
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Snapshot file has " + buffer.remaining() + " bytes after its last employee");
+            }
+            return header;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Snapshot file is truncated or malformed", e);
+        }
+    }
+
+    private static void writeRecord(ByteBuffer buffer, Employee employee) {
+        UUID id = employee.getId();
+        byte flags = 0;
+        if (id != null) {
+            flags |= HAS_ID;
+        }
+        if (employee.getSalary() != null) {
+            flags |= HAS_SALARY;
+        }
+        if (employee.getAge() != null) {
+            flags |= HAS_AGE;
+        }
+        buffer.put(flags);
+        buffer.putLong(id == null ? 0 : id.getMostSignificantBits());
+        buffer.putLong(id == null ? 0 : id.getLeastSignificantBits());
+        buffer.putInt(employee.getSalary() == null ? 0 : employee.getSalary());
+        buffer.putInt(employee.getAge() == null ? 0 : employee.getAge());
+        writeString(buffer, employee.getName());
+        writeString(buffer, employee.getTitle());
+        writeString(buffer, employee.getEmail());
+    }
+
+    private static Employee readRecord(ByteBuffer buffer) throws IOException {
+        byte flags = buffer.get();
+        long mostSignificantBits = buffer.getLong();
+        long leastSignificantBits = buffer.getLong();
+        int salary = buffer.getInt();
+        int age = buffer.getInt();
+        return Employee.builder()
+                .id((flags & HAS_ID) != 0 ? new UUID(mostSignificantBits, leastSignificantBits) : null)
+                .salary((flags & HAS_SALARY) != 0 ? salary : null)
+                .age((flags & HAS_AGE) != 0 ? age : null)
+                .name(readString(buffer))
+                .title(readString(buffer))
+                .email(readString(buffer))
+                .build();
+    }
+
+    private static void writeString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Snapshot file has a string of length " + length + " at " + buffer.position());
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(ByteBuffer buffer, int size) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_BYTES, size - HEADER_BYTES));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * The number of bytes {@code value.getBytes(UTF_8)} returns, without encoding it. Unpaired surrogates are
+     * replaced by a single {@code '?'}, as the encoder does.
+     */
+    static int utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -1,17 +1,35 @@
 package com.reliaquest.api.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.resilience.AdaptiveRateLimiter;
+import com.reliaquest.api.resilience.Bulkhead;
+import com.reliaquest.api.resilience.CircuitBreaker;
+import com.reliaquest.api.resilience.RetryExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Slf4j
 @Configuration
@@ -19,13 +37,89 @@ import org.springframework.web.client.RestTemplate;
 public class ApiConfiguration {
 
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.setConnectTimeout(Duration.ofSeconds(5))
-                .setReadTimeout(Duration.ofSeconds(30))
+    public RestTemplate restTemplate(RestTemplateBuilder builder, ClientHttpRequestFactory upstreamRequestFactory) {
+        return builder.requestFactory(() -> upstreamRequestFactory)
                 .interceptors(loggingInterceptor())
                 .build();
     }
 
+    /*
+     * A bean rather than a builder supplier so the context closes the Apache connection pool on shutdown.
+     */
+    @Bean
+    public ClientHttpRequestFactory upstreamRequestFactory(
+            @Value("${mock.api.http.client:apache}") String client,
+            @Value("${mock.api.http.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${mock.api.http.read-timeout:30s}") Duration readTimeout,
+            @Value("${mock.api.http.max-connections:64}") int maxConnections,
+            @Value("${mock.api.http.idle-timeout:30s}") Duration idleTimeout,
+            @Value("${mock.api.http.connection-ttl:5m}") Duration connectionTtl,
+            @Value("${mock.api.http.http2:false}") boolean http2,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        log.info("Using {} HTTP client for the mock API{}", client, http2 ? " over h2c" : "");
+        if (virtualThreads && client.equals("simple")) {
+            log.warn("HttpURLConnection blocks inside synchronized code and will pin virtual threads; "
+                    + "prefer mock.api.http.client=apache or jdk");
+        }
+        return switch (client) {
+            case "simple" -> UpstreamRequestFactories.simple(connectTimeout, readTimeout);
+            case "apache" -> UpstreamRequestFactories.apache(
+                    maxConnections, connectTimeout, readTimeout, idleTimeout, connectionTtl);
+            case "jdk" -> UpstreamRequestFactories.jdk(http2, connectTimeout, readTimeout);
+            default -> throw new IllegalArgumentException(
+                    "Unknown mock.api.http.client '" + client + "', expected simple, apache or jdk");
+        };
+    }
+
+    /*
+     * A bean of its own so the context disposes of the pooled connections when it closes.
+     */
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(name = "mock.api.client.type", havingValue = "web-client")
+    public ConnectionProvider upstreamConnectionProvider(
+            @Value("${mock.api.http.max-connections:64}") int maxConnections,
+            @Value("${mock.api.http.idle-timeout:30s}") Duration idleTimeout,
+            @Value("${mock.api.http.connection-ttl:5m}") Duration connectionTtl) {
+        return ConnectionProvider.builder("mock-api")
+                .maxConnections(maxConnections)
+                .maxIdleTime(idleTimeout)
+                .maxLifeTime(connectionTtl)
+                .evictInBackground(idleTimeout)
+                .build();
+    }
+
+    /*
+     * The reactive counterpart of restTemplate, sharing its mock.api.http settings. With http2, connections start as
+     * HTTP/1.1 and upgrade to h2c, staying on HTTP/1.1 when the server declines.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "mock.api.client.type", havingValue = "web-client")
+    public WebClient upstreamWebClient(
+            WebClient.Builder builder,
+            ConnectionProvider upstreamConnectionProvider,
+            @Value("${mock.api.base-url}") String baseUrl,
+            @Value("${mock.api.http.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${mock.api.http.read-timeout:30s}") Duration readTimeout,
+            @Value("${mock.api.http.http2:false}") boolean http2) {
+        HttpClient httpClient = HttpClient.create(upstreamConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+        if (http2) {
+            httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+        return builder.baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                // The full employee list is decoded in one piece, as RestTemplate does, so lift the 256KB default.
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(-1))
+                .filter((request, next) -> {
+                    log.info("Request: {} {}", request.method(), request.url());
+                    return next.exchange(request)
+                            .doOnNext(response ->
+                                    log.info("Response: {} - Status: {}", request.url(), response.statusCode()));
+                })
+                .build();
+    }
+
     @Bean
     public ClientHttpRequestInterceptor loggingInterceptor() {
         return (request, body, execution) -> {
@@ -40,12 +134,68 @@ public class ApiConfiguration {
     }
 
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("employees");
+    public CacheManager cacheManager(@Value("${mock.api.cache.max-stale:1m}") Duration maxStale) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(EmployeeSnapshotCache.CACHE_NAME);
         cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(1, TimeUnit.MINUTES)
+                .expireAfterWrite(maxStale)
                 .maximumSize(100)
                 .recordStats());
         return cacheManager;
     }
+
+    @Bean
+    public AdaptiveRateLimiter upstreamRateLimiter(
+            @Value("${mock.api.rate-limit.enabled:true}") boolean enabled,
+            @Value("${mock.api.rate-limit.initial-lockout:30s}") Duration initialLockout,
+            @Value("${mock.api.rate-limit.max-lockout:2m}") Duration maxLockout,
+            @Value("${mock.api.rate-limit.lockout-decrement:5s}") Duration lockoutDecrement,
+            @Value("${mock.api.rate-limit.low-priority-reserve:2}") int lowPriorityReserve) {
+        if (!enabled) {
+            return AdaptiveRateLimiter.unlimited();
+        }
+        return new AdaptiveRateLimiter(initialLockout, maxLockout, lockoutDecrement, lowPriorityReserve);
+    }
+
+    @Bean
+    public RetryExecutor retryExecutor(
+            AdaptiveRateLimiter upstreamRateLimiter,
+            @Value("${mock.api.circuit-breaker.enabled:true}") boolean circuitBreakerEnabled,
+            @Value("${mock.api.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${mock.api.circuit-breaker.open-duration:30s}") Duration openDuration,
+            @Value("${mock.api.bulkhead.max-concurrent:64}") int maxConcurrent,
+            @Value("${mock.api.client.threads:32}") int threads,
+            @Value("${mock.api.retry.max-attempts:3}") int maxAttempts,
+            @Value("${mock.api.retry.initial-delay-ms:2000}") long initialDelayMs,
+            @Value("${mock.api.retry.multiplier:2}") double multiplier,
+            @Value("${mock.api.retry.deadline-ms:10000}") long deadlineMs,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            MeterRegistry meterRegistry) {
+        // On virtual threads a blocked call costs no platform thread, so the HTTP connection pool bounds concurrency
+        // instead of mock.api.client.threads.
+        ExecutorService clientExecutor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mock-api-client-", 1).factory())
+                : Executors.newFixedThreadPool(threads, daemonThreads("mock-api-client"));
+        return new RetryExecutor(
+                upstreamRateLimiter,
+                operation -> circuitBreakerEnabled
+                        ? new CircuitBreaker(operation.tag(), failureThreshold, openDuration)
+                        : CircuitBreaker.disabled(operation.tag()),
+                new Bulkhead(maxConcurrent),
+                Executors.newSingleThreadScheduledExecutor(daemonThreads("mock-api-retry-timer")),
+                clientExecutor,
+                maxAttempts,
+                Duration.ofMillis(initialDelayMs),
+                multiplier,
+                Duration.ofMillis(deadlineMs),
+                meterRegistry);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
 }
@@ -0,0 +1,82 @@
+package com.reliaquest.api.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+/**
+ * Connection layers the mock API client can run on, selected by {@code mock.api.http.client}.
+ *
+ * <ul>
+ *   <li>{@code simple}: {@link java.net.HttpURLConnection}, which only reuses connections through the JDK's global
+ *       keep-alive cache and has no pool limits.
+ *   <li>{@code apache}: Apache HttpClient 5 with a bounded pool. Idle connections are kept alive for
+ *       {@code idleTimeout} and evicted after it, and no connection lives longer than {@code connectionTtl}. HTTP/1.1
+ *       only.
+ *   <li>{@code jdk}: {@link HttpClient}, which pools connections itself and, with {@code http2}, upgrades plain-text
+ *       connections to h2c and multiplexes requests over one connection per host.
+ * </ul>
+ *
+ * <p>Kept free of Spring configuration so the benchmarks in {@code src/jmh} build exactly what the application runs.
+ */
+public final class UpstreamRequestFactories {
+
+    private UpstreamRequestFactories() {}
+
+    public static ClientHttpRequestFactory simple(Duration connectTimeout, Duration readTimeout) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(connectTimeout);
+        factory.setReadTimeout(readTimeout);
+        return factory;
+    }
+
+    public static HttpComponentsClientHttpRequestFactory apache(
+            int maxConnections,
+            Duration connectTimeout,
+            Duration readTimeout,
+            Duration idleTimeout,
+            Duration connectionTtl) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        // Every call goes to the one mock API route, so it may use the whole pool.
+                        .setMaxConnPerRoute(maxConnections)
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.of(connectTimeout))
+                                .setSocketTimeout(Timeout.of(readTimeout))
+                                .setTimeToLive(TimeValue.of(connectionTtl))
+                                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                                .build())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                // The mock API sends no Keep-Alive header, so choose how long an idle connection is worth keeping.
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(idleTimeout))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .build();
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    public static ClientHttpRequestFactory jdk(boolean http2, Duration connectTimeout, Duration readTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(readTimeout);
+        return factory;
+    }
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.controller.SnapshotResponseInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private final SnapshotResponseInterceptor snapshotResponseInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(snapshotResponseInterceptor);
+    }
+}
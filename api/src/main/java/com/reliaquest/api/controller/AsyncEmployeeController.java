@@ -0,0 +1,80 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Serves the {@link IEmployeeController} contract (same paths, bodies and status codes) with asynchronous handlers,
+ * enabled by {@code api.async.enabled=true} in place of {@link EmployeeController}.
+ *
+ * <p>Each handler returns a {@link CompletableFuture}, so Spring MVC starts servlet async processing and hands the
+ * Tomcat thread back as soon as the handler returns. The response is written when the future completes on the mock
+ * API client's threads. Concurrent requests are then bounded by the client pool and the mock API rather than by
+ * Tomcat's worker pool. The interface cannot be implemented directly because its return types are synchronous.
+ */
+@Slf4j
+@RestController
+@RequestMapping
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "api.async.enabled", havingValue = "true")
+public class AsyncEmployeeController {
+
+    private final EmployeeService employeeService;
+
+    @GetMapping()
+    public CompletableFuture<ResponseEntity<List<Employee>>> getAllEmployees() {
+        log.info("GET /api/v1/employee - Get all employees");
+        return employeeService.getAllEmployeesAsync().thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/search/{searchString}")
+    public CompletableFuture<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(
+            @PathVariable String searchString) {
+        log.info("GET /api/v1/employee/search/{} - Search employees by name", searchString);
+        return employeeService.searchEmployeesByNameAsync(searchString).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        log.info("GET /api/v1/employee/{} - Get employee by id", id);
+        return employeeService.getEmployeeByIdAsync(id).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/highestSalary")
+    public CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        log.info("GET /api/v1/employee/highestSalary - Get highest salary");
+        return employeeService.getHighestSalaryAsync().thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public CompletableFuture<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        log.info("GET /api/v1/employee/topTenHighestEarningEmployeeNames - Get top 10 earners");
+        return employeeService.getTopTenHighestEarningEmployeeNamesAsync().thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping()
+    public CompletableFuture<ResponseEntity<Employee>> createEmployee(@RequestBody EmployeeInput employeeInput) {
+        log.info("POST /api/v1/employee - Create employee: {}", employeeInput.getName());
+        return employeeService.createEmployeeAsync(employeeInput).thenApply(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        log.info("DELETE /api/v1/employee/{} - Delete employee by id", id);
+        return employeeService.deleteEmployeeByIdAsync(id).thenApply(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.BulkCreateResult;
+import com.reliaquest.api.model.BulkDeleteResult;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.EmployeeService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+/**
+ * Bulk endpoints alongside the fixed {@link IEmployeeController} contract, served in both synchronous and async mode.
+ *
+ * <p>{@code POST /bulk} takes a JSON array of {@link EmployeeInput}s, and {@code DELETE /bulk} a JSON array of ids.
+ * Both answer {@code 200} at once with an {@code application/x-ndjson} body: one {@link BulkCreateResult} or
+ * {@link BulkDeleteResult} line per item, written as each call finishes. A failed item does not fail the batch;
+ * clients match lines to items by {@code index} or {@code id}.
+ */
+@Slf4j
+@RestController
+@RequestMapping
+@RequiredArgsConstructor
+public class BulkEmployeeController {
+
+    private final EmployeeService employeeService;
+
+    @Value("${api.bulk.max-items:1000}")
+    private int maxItems = 1000;
+
+    @Value("${api.bulk.timeout:10m}")
+    private Duration timeout = Duration.ofMinutes(10);
+
+    @PostMapping("/bulk")
+    public ResponseEntity<ResponseBodyEmitter> createEmployees(@RequestBody List<EmployeeInput> employeeInputs) {
+        log.info("POST /api/v1/employee/bulk - Create {} employees", employeeInputs.size());
+        checkSize(employeeInputs);
+        return this.<BulkCreateResult>stream(results -> employeeService.createEmployees(employeeInputs, results));
+    }
+
+    @DeleteMapping("/bulk")
+    public ResponseEntity<ResponseBodyEmitter> deleteEmployeesById(@RequestBody List<String> ids) {
+        log.info("DELETE /api/v1/employee/bulk - Delete {} employees", ids.size());
+        checkSize(ids);
+        return this.<BulkDeleteResult>stream(results -> employeeService.deleteEmployeesById(ids, results));
+    }
+
+    private void checkSize(List<?> items) {
+        if (items.size() > maxItems) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Bulk requests accept at most " + maxItems + " items, got " + items.size());
+        }
+    }
+
+    /**
+     * Starts {@code operation} with a sink that writes each result as a line of the response.
+     */
+    private <R> ResponseEntity<ResponseBodyEmitter> stream(Function<Consumer<R>, CompletableFuture<?>> operation) {
+        // Allow for the calls still in flight when the service stops requeueing at api.bulk.timeout.
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeout.plus(Duration.ofMinutes(1)).toMillis());
+        operation
+                .apply(result -> {
+                    try {
+                        emitter.send(result, MediaType.APPLICATION_JSON);
+                        emitter.send("\n", MediaType.TEXT_PLAIN);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .whenComplete((ignored, failure) -> {
+                    if (failure == null) {
+                        emitter.complete();
+                    } else {
+                        emitter.completeWithError(failure);
+                    }
+                });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+    }
+}
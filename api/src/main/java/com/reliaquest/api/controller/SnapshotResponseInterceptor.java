@@ -0,0 +1,189 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.service.EmployeeService;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Serves the read endpoints listed in {@link SnapshotView} from bytes serialized once per snapshot version, ahead of
+ * {@link EmployeeController} or {@link AsyncEmployeeController}.
+ *
+ * <p>Each body is rendered with the application's {@link ObjectMapper}, so it matches what the controller would have
+ * written, and is tagged with a strong {@code ETag} derived from its bytes. A request whose {@code If-None-Match}
+ * carries the tag gets {@code 304 Not Modified} without the body being rendered or sent again. A refresh that returns
+ * the same employees yields the same bytes and therefore the same tag. With {@code api.responses.gzip.enabled}, bodies
+ * of at least {@code api.responses.gzip.min-size} are also compressed once and sent to clients that accept gzip.
+ *
+ * <p>Only a snapshot that the cache would serve without loading is used. Otherwise the request goes on to the
+ * controller, which loads one and reports failures through {@code GlobalExceptionHandler} as usual.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnapshotResponseInterceptor implements HandlerInterceptor {
+
+    private static final Map<String, SnapshotView> VIEWS_BY_HANDLER = Map.of(
+            "getAllEmployees", SnapshotView.ALL_EMPLOYEES,
+            "getHighestSalaryOfEmployees", SnapshotView.HIGHEST_SALARY,
+            "getTopTenHighestEarningEmployeeNames", SnapshotView.TOP_EARNER_NAMES);
+
+    private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<Payloads> payloads = new AtomicReference<>();
+
+    @Value("${api.responses.gzip.enabled:true}")
+    private boolean gzipEnabled = true;
+
+    @Value("${api.responses.gzip.min-size:2KB}")
+    private DataSize gzipMinSize = DataSize.ofKilobytes(2);
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        SnapshotView view = view(request, handler);
+        if (view == null) {
+            return true;
+        }
+        Optional<EmployeeSnapshot> snapshot = employeeService.peekSnapshot();
+        if (snapshot.isEmpty()) {
+            return true;
+        }
+        Payload payload = payload(snapshot.get(), view);
+        boolean gzip = payload.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (payload.gzip() != null) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (new ServletWebRequest(request, response).checkNotModified(gzip ? payload.gzipEtag() : payload.etag())) {
+            log.debug("{} not modified at snapshot version {}", view, snapshot.get().getVersion());
+            return false;
+        }
+        byte[] body = gzip ? payload.gzip() : payload.json();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if (!HttpMethod.HEAD.matches(request.getMethod())) {
+            response.getOutputStream().write(body);
+        }
+        return false;
+    }
+
+    private static SnapshotView view(HttpServletRequest request, Object handler) {
+        // An async dispatch is writing a result the controller already produced.
+        if (request.getDispatcherType() != DispatcherType.REQUEST
+                || !(handler instanceof HandlerMethod method)
+                || !(method.getBeanType() == EmployeeController.class
+                        || method.getBeanType() == AsyncEmployeeController.class)) {
+            return null;
+        }
+        return VIEWS_BY_HANDLER.get(method.getMethod().getName());
+    }
+
+    /**
+     * @return the payload for {@code view} of {@code snapshot}, rendering it on first use. Payloads of earlier
+     *     snapshots are dropped as soon as a later one is requested.
+     */
+    private Payload payload(EmployeeSnapshot snapshot, SnapshotView view) {
+        Payloads current = payloads.updateAndGet(
+                existing -> existing != null && existing.snapshot() == snapshot ? existing : new Payloads(snapshot));
+        return current.byView().computeIfAbsent(view, ignored -> render(view.body(snapshot)));
+    }
+
+    private Payload render(Object body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        String tag = digest(json);
+        byte[] gzip = gzipEnabled && json.length >= gzipMinSize.toBytes() ? gzip(json) : null;
+        return new Payload(json, gzip, "\"" + tag + "\"", "\"" + tag + "-gzip\"");
+    }
+
+    private static String digest(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @return whether {@code acceptEncoding} lists gzip, or {@code *}, without {@code q=0}
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().toLowerCase();
+                if (param.startsWith("q=")) {
+                    refused = param.substring(2).trim().matches("0(\\.0{0,3})?");
+                }
+            }
+            if (!refused) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Payloads(EmployeeSnapshot snapshot, Map<SnapshotView, Payload> byView) {
+
+        Payloads(EmployeeSnapshot snapshot) {
+            this(snapshot, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * @param gzip the compressed body, or null when it is not worth compressing
+     */
+    private record Payload(byte[] json, byte[] gzip, String etag, String gzipEtag) {}
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.function.Function;
+
+/**
+ * The read endpoints whose response body depends on nothing but the snapshot, so {@link SnapshotResponseInterceptor}
+ * can serialize it once per snapshot version and serve it as is.
+ */
+enum SnapshotView {
+    ALL_EMPLOYEES(EmployeeSnapshot::getEmployees),
+    HIGHEST_SALARY(EmployeeService::highestSalary),
+    TOP_EARNER_NAMES(EmployeeService::topEarnerNames);
+
+    private final Function<EmployeeSnapshot, Object> body;
+
+    SnapshotView(Function<EmployeeSnapshot, Object> body) {
+        this.body = body;
+    }
+
+    /**
+     * @return the same value the endpoint's service method returns for {@code snapshot}
+     */
+    Object body(EmployeeSnapshot snapshot) {
+        return body.apply(snapshot);
+    }
+}
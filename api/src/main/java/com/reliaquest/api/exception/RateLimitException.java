@@ -1,12 +1,27 @@
 package com.reliaquest.api.exception;
 
+import java.time.Duration;
+import lombok.Getter;
+
+@Getter
 public class RateLimitException extends RuntimeException {
 
+    /**
+     * How long until the mock API is expected to take requests again, or null when that is not known.
+     */
+    private final Duration retryAfter;
+
     public RateLimitException(String message) {
+        this(message, (Duration) null);
+    }
+
+    public RateLimitException(String message, Duration retryAfter) {
         super(message);
+        this.retryAfter = retryAfter;
     }
 
     public RateLimitException(String message, Throwable cause) {
         super(message, cause);
+        this.retryAfter = null;
     }
 }
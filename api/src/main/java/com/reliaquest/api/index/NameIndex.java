@@ -0,0 +1,337 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Case-insensitive substring index over employee names.
+ *
+ * <p>Names are lower-cased once when the index is built. Every distinct trigram (three consecutive characters) of a
+ * name maps to a sorted posting list of document ids, where a document id is the employee's position in the source
+ * list. A query of three or more characters intersects the posting lists of its trigrams, shortest first, and then
+ * confirms each candidate with {@link String#contains}, since sharing every trigram does not imply the trigrams are
+ * adjacent. Shorter queries fall back to scanning the pre-normalized names. Results are returned in source order,
+ * exactly as a linear {@code contains} filter would return them.
+ *
+ * <p>Immutable and safe to share between threads. {@link #withAdded} and {@link #withRemoved} return a new index
+ * that shares every posting list the change does not touch. Removed documents are left as tombstones in the posting
+ * lists and skipped at query time; once they outnumber live documents the index is rebuilt.
+ */
+public final class NameIndex {
+
+    private static final int GRAM = 3;
+    private static final int[] NO_DOCUMENTS = new int[0];
+
+    private final Employee[] employees;
+    private final String[] normalizedNames;
+    private final Map<Long, int[]> postings;
+    private final int removed;
+
+    private NameIndex(Employee[] employees, String[] normalizedNames, Map<Long, int[]> postings, int removed) {
+        this.employees = employees;
+        this.normalizedNames = normalizedNames;
+        this.postings = postings;
+        this.removed = removed;
+    }
+
+    public static NameIndex of(Collection<Employee> source) {
+        Builder builder = builder();
+        source.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * @return a builder that indexes employees one at a time, in the order they are added
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    public int size() {
+        return employees.length - removed;
+    }
+
+    /**
+     * @return an index that also contains {@code employee}, ordered after every employee already indexed
+     */
+    public NameIndex withAdded(Employee employee) {
+        int document = employees.length;
+        Employee[] nextEmployees = Arrays.copyOf(employees, document + 1);
+        String[] nextNames = Arrays.copyOf(normalizedNames, document + 1);
+        nextEmployees[document] = employee;
+        if (employee.getName() == null) {
+            return new NameIndex(nextEmployees, nextNames, postings, removed);
+        }
+
+        String normalized = normalize(employee.getName());
+        nextNames[document] = normalized;
+        Map<Long, int[]> nextPostings = new HashMap<>(postings);
+        for (int i = 0; i + GRAM <= normalized.length(); i++) {
+            long key = trigram(normalized, i);
+            int[] documents = nextPostings.getOrDefault(key, NO_DOCUMENTS);
+            if (documents.length > 0 && documents[documents.length - 1] == document) {
+                continue;
+            }
+            int[] appended = Arrays.copyOf(documents, documents.length + 1);
+            appended[documents.length] = document;
+            nextPostings.put(key, appended);
+        }
+        return new NameIndex(nextEmployees, nextNames, nextPostings, removed);
+    }
+
+    /**
+     * @return an index that also contains {@code added}, in order, after every employee already indexed. Each posting
+     *     list the batch touches is copied once, however many of its names share the trigram.
+     */
+    public NameIndex withAddedAll(Collection<Employee> added) {
+        if (added.isEmpty()) {
+            return this;
+        }
+        int document = employees.length;
+        Employee[] nextEmployees = Arrays.copyOf(employees, document + added.size());
+        String[] nextNames = Arrays.copyOf(normalizedNames, document + added.size());
+        Map<Long, IntList> appended = new HashMap<>();
+        for (Employee employee : added) {
+            nextEmployees[document] = employee;
+            if (employee.getName() != null) {
+                String normalized = normalize(employee.getName());
+                nextNames[document] = normalized;
+                for (int i = 0; i + GRAM <= normalized.length(); i++) {
+                    appended.computeIfAbsent(trigram(normalized, i), ignored -> new IntList())
+                            .addIfAbsent(document);
+                }
+            }
+            document++;
+        }
+
+        Map<Long, int[]> nextPostings = new HashMap<>(postings);
+        appended.forEach((key, documents) -> {
+            int[] existing = nextPostings.getOrDefault(key, NO_DOCUMENTS);
+            int[] merged = Arrays.copyOf(existing, existing.length + documents.size);
+            System.arraycopy(documents.values, 0, merged, existing.length, documents.size);
+            nextPostings.put(key, merged);
+        });
+        return new NameIndex(nextEmployees, nextNames, nextPostings, removed);
+    }
+
+    /**
+     * @return an index without the employee whose id matches {@code employee}, or this index if there is none
+     */
+    public NameIndex withRemoved(Employee employee) {
+        int document = documentOf(employee);
+        if (document < 0) {
+            return this;
+        }
+        if (removed + 1 > size() - 1) {
+            Employee[] live = new Employee[size() - 1];
+            int next = 0;
+            for (int i = 0; i < employees.length; i++) {
+                if (employees[i] != null && i != document) {
+                    live[next++] = employees[i];
+                }
+            }
+            return of(Arrays.asList(live));
+        }
+
+        Employee[] nextEmployees = employees.clone();
+        String[] nextNames = normalizedNames.clone();
+        nextEmployees[document] = null;
+        nextNames[document] = null;
+        return new NameIndex(nextEmployees, nextNames, postings, removed + 1);
+    }
+
+    /**
+     * @return an index without the employees whose ids match {@code removedEmployees}, or this index if there are
+     *     none. The arrays are copied once for the whole batch.
+     */
+    public NameIndex withRemovedAll(Collection<Employee> removedEmployees) {
+        Employee[] nextEmployees = null;
+        String[] nextNames = null;
+        int count = 0;
+        for (Employee employee : removedEmployees) {
+            int document = documentOf(employee);
+            if (document < 0 || (nextEmployees != null && nextEmployees[document] == null)) {
+                continue;
+            }
+            if (nextEmployees == null) {
+                nextEmployees = employees.clone();
+                nextNames = normalizedNames.clone();
+            }
+            nextEmployees[document] = null;
+            nextNames[document] = null;
+            count++;
+        }
+        if (count == 0) {
+            return this;
+        }
+        if (removed + count > size() - count) {
+            return of(Arrays.stream(nextEmployees).filter(Objects::nonNull).toList());
+        }
+        return new NameIndex(nextEmployees, nextNames, postings, removed + count);
+    }
+
+    public List<Employee> search(String query) {
+        String normalized = normalize(query);
+        if (normalized.length() < GRAM) {
+            return scan(normalized);
+        }
+
+        int[] candidates = candidates(normalized);
+        List<Employee> matches = new ArrayList<>(candidates.length);
+        for (int document : candidates) {
+            String name = normalizedNames[document];
+            if (name != null && name.contains(normalized)) {
+                matches.add(employees[document]);
+            }
+        }
+        return matches;
+    }
+
+    private List<Employee> scan(String normalized) {
+        List<Employee> matches = new ArrayList<>();
+        for (int document = 0; document < employees.length; document++) {
+            String name = normalizedNames[document];
+            if (name != null && name.contains(normalized)) {
+                matches.add(employees[document]);
+            }
+        }
+        return matches;
+    }
+
+    private int documentOf(Employee employee) {
+        if (employee.getName() != null && employee.getName().length() >= GRAM) {
+            for (int document : candidates(normalize(employee.getName()))) {
+                if (employees[document] != null && Objects.equals(employees[document].getId(), employee.getId())) {
+                    return document;
+                }
+            }
+            return -1;
+        }
+        for (int document = 0; document < employees.length; document++) {
+            if (employees[document] != null && Objects.equals(employees[document].getId(), employee.getId())) {
+                return document;
+            }
+        }
+        return -1;
+    }
+
+    private int[] candidates(String normalized) {
+        int gramCount = normalized.length() - GRAM + 1;
+        int[][] lists = new int[gramCount][];
+        for (int i = 0; i < gramCount; i++) {
+            int[] documents = postings.get(trigram(normalized, i));
+            if (documents == null) {
+                return NO_DOCUMENTS;
+            }
+            lists[i] = documents;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(documents -> documents.length));
+
+        int[] result = lists[0];
+        int resultSize = result.length;
+        for (int i = 1; i < lists.length && resultSize > 0; i++) {
+            if (lists[i] == lists[i - 1]) {
+                // Repeated trigram in the query, e.g. "anan"; intersecting with itself changes nothing.
+                continue;
+            }
+            int[] intersection = new int[resultSize];
+            resultSize = intersect(result, resultSize, lists[i], intersection);
+            result = intersection;
+        }
+        return resultSize == result.length ? result : Arrays.copyOf(result, resultSize);
+    }
+
+    private static int intersect(int[] left, int leftSize, int[] right, int[] target) {
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < leftSize && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                target[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return size;
+    }
+
+    private static long trigram(String normalized, int offset) {
+        return ((long) normalized.charAt(offset) << 32)
+                | ((long) normalized.charAt(offset + 1) << 16)
+                | normalized.charAt(offset + 2);
+    }
+
+    /**
+     * Computes each employee's trigrams as it is added, so a list can be indexed while it is still being read.
+     * Single use: {@link #build()} hands the builder's storage to the index.
+     */
+    public static final class Builder {
+
+        private final List<Employee> employees = new ArrayList<>();
+        private final List<String> normalizedNames = new ArrayList<>();
+        private final Map<Long, IntList> builders = new HashMap<>();
+
+        private Builder() {}
+
+        public Builder add(Employee employee) {
+            int document = employees.size();
+            employees.add(employee);
+            String name = employee.getName();
+            if (name == null) {
+                normalizedNames.add(null);
+                return this;
+            }
+            String normalized = normalize(name);
+            normalizedNames.add(normalized);
+            for (int i = 0; i + GRAM <= normalized.length(); i++) {
+                builders.computeIfAbsent(trigram(normalized, i), ignored -> new IntList())
+                        .addIfAbsent(document);
+            }
+            return this;
+        }
+
+        public NameIndex build() {
+            Map<Long, int[]> postings = new HashMap<>(Math.max(16, (int) (builders.size() / 0.75f) + 1));
+            builders.forEach((key, documents) -> postings.put(key, documents.toArray()));
+            return new NameIndex(
+                    employees.toArray(Employee[]::new), normalizedNames.toArray(String[]::new), postings, 0);
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void addIfAbsent(int value) {
+            // Documents are indexed in ascending order, so a duplicate can only be the last value.
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Order-statistics index over employee salaries.
+ *
+ * <p>Employees are kept in a flat array sorted by salary, highest first. Employees with equal salaries keep the order
+ * in which they were indexed, which matches a stable sort of the source list. Highest salary is O(1), top-K is O(k),
+ * rank and percentile lookups are O(log n), and {@link #add}/{@link #remove} shift the array in place in O(n).
+ *
+ * <p>Employees without a salary cannot be ranked and are not indexed.
+ *
+ * <p>Not thread-safe. Instances are published through an immutable {@code EmployeeSnapshot}; mutate a {@link #copy()}
+ * rather than an index that readers may already hold.
+ */
+public final class SalaryIndex {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private Employee[] employees;
+    private int[] salaries;
+    private int size;
+
+    private SalaryIndex(Employee[] employees, int[] salaries, int size) {
+        this.employees = employees;
+        this.salaries = salaries;
+        this.size = size;
+    }
+
+    public static SalaryIndex of(Collection<Employee> source) {
+        Builder builder = builder();
+        source.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * @return a builder that collects employees one at a time and sorts them once in {@link Builder#build()}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public OptionalInt highestSalary() {
+        return size == 0 ? OptionalInt.empty() : OptionalInt.of(salaries[0]);
+    }
+
+    public OptionalInt lowestSalary() {
+        return size == 0 ? OptionalInt.empty() : OptionalInt.of(salaries[size - 1]);
+    }
+
+    /**
+     * @return up to {@code k} employees ordered by salary, highest first
+     */
+    public List<Employee> top(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        int limit = Math.min(k, size);
+        List<Employee> top = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            top.add(employees[i]);
+        }
+        return top;
+    }
+
+    /**
+     * Competition ranking: one plus the number of employees earning strictly more than {@code salary}.
+     */
+    public int rankOf(int salary) {
+        return firstIndexAtOrBelow(salary) + 1;
+    }
+
+    /**
+     * @return the rank of the given employee, or empty if the employee is not indexed
+     */
+    public OptionalInt rankOf(Employee employee) {
+        if (employee.getSalary() == null || indexOf(employee) < 0) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(rankOf(employee.getSalary()));
+    }
+
+    /**
+     * Percentile rank of {@code salary}: the percentage of indexed employees earning strictly less.
+     */
+    public double percentileOf(int salary) {
+        if (size == 0) {
+            return 0.0;
+        }
+        int earningLess = size - firstIndexBelow(salary);
+        return 100.0 * earningLess / size;
+    }
+
+    /**
+     * Nearest-rank percentile: the lowest salary such that at least {@code percentile}% of employees earn no more.
+     */
+    public OptionalInt salaryAtPercentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("percentile must be within [0, 100]: " + percentile);
+        }
+        if (size == 0) {
+            return OptionalInt.empty();
+        }
+        int ascendingRank = Math.max(1, (int) Math.ceil(percentile / 100.0 * size));
+        return OptionalInt.of(salaries[size - ascendingRank]);
+    }
+
+    /**
+     * Inserts the employee after any already indexed employees with the same salary.
+     */
+    public void add(Employee employee) {
+        if (employee.getSalary() == null) {
+            return;
+        }
+        int salary = employee.getSalary();
+        int position = firstIndexBelow(salary);
+        ensureCapacity(size + 1);
+        System.arraycopy(employees, position, employees, position + 1, size - position);
+        System.arraycopy(salaries, position, salaries, position + 1, size - position);
+        employees[position] = employee;
+        salaries[position] = salary;
+        size++;
+    }
+
+    /**
+     * Removes the indexed employee with the same id as {@code employee}.
+     *
+     * @return whether an employee was removed
+     */
+    public boolean remove(Employee employee) {
+        int position = indexOf(employee);
+        if (position < 0) {
+            return false;
+        }
+        System.arraycopy(employees, position + 1, employees, position, size - position - 1);
+        System.arraycopy(salaries, position + 1, salaries, position, size - position - 1);
+        size--;
+        employees[size] = null;
+        return true;
+    }
+
+    /**
+     * Removes every indexed employee with the same id as one of {@code removed}, in a single pass over the array
+     * rather than one shift per employee.
+     *
+     * @return the number of employees removed
+     */
+    public int removeAll(Collection<Employee> removed) {
+        Set<UUID> ids = new HashSet<>();
+        for (Employee employee : removed) {
+            if (employee.getSalary() != null) {
+                ids.add(employee.getId());
+            }
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!ids.contains(employees[i].getId())) {
+                employees[kept] = employees[i];
+                salaries[kept] = salaries[i];
+                kept++;
+            }
+        }
+        int count = size - kept;
+        Arrays.fill(employees, kept, size, null);
+        size = kept;
+        return count;
+    }
+
+    public SalaryIndex copy() {
+        return new SalaryIndex(employees.clone(), salaries.clone(), size);
+    }
+
+    private int indexOf(Employee employee) {
+        if (employee.getSalary() == null) {
+            return -1;
+        }
+        int salary = employee.getSalary();
+        for (int i = firstIndexAtOrBelow(salary); i < size && salaries[i] == salary; i++) {
+            if (Objects.equals(employees[i].getId(), employee.getId())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** First position whose salary is {@code <= salary}; {@code size} if every salary is higher. */
+    private int firstIndexAtOrBelow(int salary) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (salaries[mid] > salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** First position whose salary is {@code < salary}; {@code size} if no salary is lower. */
+    private int firstIndexBelow(int salary) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (salaries[mid] >= salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > employees.length) {
+            int capacity = Math.max(required, employees.length + (employees.length >> 1));
+            employees = Arrays.copyOf(employees, capacity);
+            salaries = Arrays.copyOf(salaries, capacity);
+        }
+    }
+
+    /**
+     * Collects employees in arrival order so that equal salaries keep it after the stable sort in {@link #build()}.
+     * Single use: the built index takes over the builder's array.
+     */
+    public static final class Builder {
+
+        private Employee[] employees = new Employee[MIN_CAPACITY];
+        private int size;
+
+        private Builder() {}
+
+        public Builder add(Employee employee) {
+            if (employee == null || employee.getSalary() == null) {
+                return this;
+            }
+            if (size == employees.length) {
+                employees = Arrays.copyOf(employees, size + (size >> 1));
+            }
+            employees[size++] = employee;
+            return this;
+        }
+
+        public SalaryIndex build() {
+            // Arrays.sort on objects is stable, so equal salaries keep their source order.
+            Arrays.sort(employees, 0, size, (left, right) -> Integer.compare(right.getSalary(), left.getSalary()));
+            int[] salaries = new int[employees.length];
+            for (int i = 0; i < size; i++) {
+                salaries[i] = employees[i].getSalary();
+            }
+            return new SalaryIndex(employees, salaries, size);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a bulk create, identified by its position in the request. Exactly one of {@code employee}
+ * and {@code error} is set.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkCreateResult {
+
+    public static final String CREATED = "created";
+    public static final String FAILED = "failed";
+
+    private int index;
+    private String status;
+    private Employee employee;
+    private String error;
+
+    public static BulkCreateResult created(int index, Employee employee) {
+        return BulkCreateResult.builder().index(index).status(CREATED).employee(employee).build();
+    }
+
+    public static BulkCreateResult failed(int index, String error) {
+        return BulkCreateResult.builder().index(index).status(FAILED).error(error).build();
+    }
+}
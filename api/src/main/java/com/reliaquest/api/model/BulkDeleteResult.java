@@ -0,0 +1,39 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of deleting one id of a bulk delete. {@code name} is set when the id was deleted, {@code error} otherwise.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkDeleteResult {
+
+    public static final String DELETED = "deleted";
+    public static final String NOT_FOUND = "not_found";
+    public static final String FAILED = "failed";
+
+    private String id;
+    private String status;
+    private String name;
+    private String error;
+
+    public static BulkDeleteResult deleted(String id, String name) {
+        return BulkDeleteResult.builder().id(id).status(DELETED).name(name).build();
+    }
+
+    public static BulkDeleteResult notFound(String id, String error) {
+        return BulkDeleteResult.builder().id(id).status(NOT_FOUND).error(error).build();
+    }
+
+    public static BulkDeleteResult failed(String id, String error) {
+        return BulkDeleteResult.builder().id(id).status(FAILED).error(error).build();
+    }
+}
@@ -0,0 +1,258 @@
+package com.reliaquest.api.resilience;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admission control for calls to the mock API, which lets through a fixed number of requests and then answers 429
+ * for a lockout window measured from the last request it let through. Neither number is published, so this limiter
+ * learns both from the responses it sees.
+ *
+ * <p>The <em>budget</em> is the number of requests that succeed between two lockouts. It is unknown until the first
+ * 429, which sets it to the number of successes counted since the previous lockout ended. After that, the limiter
+ * stops admitting requests once a cycle has used the budget and waits out the learned lockout before starting the next
+ * cycle, so a well-learned limiter stops seeing 429s altogether. If a 429 arrives in the cycle after such a pause, the
+ * pause did not reset the upstream counter, which means the budget was too small. The budget then grows to include the
+ * previous cycle's requests. If a 429 arrives in any other cycle, the budget shrinks to the successes counted in that
+ * cycle.
+ *
+ * <p>The <em>lockout</em> estimate starts at {@code initialLockout}. After a 429, all traffic is held until the
+ * estimate has passed since the last success. Then a single probe request is admitted. If the probe is still
+ * rate limited, the estimate grows by half. If it succeeds on the first try, the estimate shrinks by
+ * {@code lockoutDecrement} so the next lockout is probed a little earlier. This is AIMD applied to the wait rather
+ * than to a send rate: the mock API's budget is a count per lockout, not per second, so spreading requests out over
+ * time would not delay the lockout at all.
+ *
+ * <p>{@link RequestPriority#HIGH High-priority} requests wait for the next cycle. {@link RequestPriority#LOW
+ * Low-priority} requests are rejected while the limiter is holding traffic, and also once the current cycle has
+ * {@code lowPriorityReserve} or fewer requests left. Background work therefore cannot use up the requests a user is
+ * waiting on.
+ *
+ * <p>Every admitted request must be followed by exactly one call to {@link #onSuccess}, {@link #onRateLimited} or
+ * {@link #onFailure}. Thread-safe.
+ */
+@Slf4j
+public class AdaptiveRateLimiter {
+
+    static final long PROBE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static final int UNKNOWN_BUDGET = Integer.MAX_VALUE;
+
+    private final boolean enabled;
+    private final long minLockoutNanos;
+    private final long maxLockoutNanos;
+    private final long lockoutDecrementNanos;
+    private final int lowPriorityReserve;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock.
+    private int budget = UNKNOWN_BUDGET;
+    private long lockoutNanos;
+    private int cycleAdmitted;
+    private int cycleSuccesses;
+    private int previousCycleAdmitted;
+    private long lastAdmittedAt;
+    private long lastSuccessAt;
+    private boolean lockedOut;
+    private long lockedUntil;
+    private boolean probeInFlight;
+    private boolean probeRetried;
+
+    public AdaptiveRateLimiter(
+            Duration initialLockout, Duration maxLockout, Duration lockoutDecrement, int lowPriorityReserve) {
+        this(true, initialLockout, maxLockout, lockoutDecrement, lowPriorityReserve, System::nanoTime);
+    }
+
+    AdaptiveRateLimiter(
+            boolean enabled,
+            Duration initialLockout,
+            Duration maxLockout,
+            Duration lockoutDecrement,
+            int lowPriorityReserve,
+            LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.lockoutNanos = initialLockout.toNanos();
+        this.minLockoutNanos = Math.min(lockoutNanos, lockoutDecrement.toNanos());
+        this.maxLockoutNanos = Math.max(lockoutNanos, maxLockout.toNanos());
+        this.lockoutDecrementNanos = lockoutDecrement.toNanos();
+        this.lowPriorityReserve = lowPriorityReserve;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return a limiter that admits every request, for when {@code mock.api.rate-limit.enabled} is false
+     */
+    public static AdaptiveRateLimiter unlimited() {
+        return new AdaptiveRateLimiter(false, Duration.ZERO, Duration.ZERO, Duration.ZERO, 0, System::nanoTime);
+    }
+
+    /**
+     * Tries to admit a request without blocking.
+     */
+    public Reservation reserve(RequestPriority priority) {
+        if (!enabled) {
+            return Reservation.GRANTED;
+        }
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            if (lockedOut) {
+                if (priority == RequestPriority.LOW) {
+                    return Reservation.REJECTED;
+                }
+                if (probeInFlight) {
+                    return Reservation.waitFor(PROBE_POLL_NANOS);
+                }
+                if (now < lockedUntil) {
+                    return Reservation.waitFor(lockedUntil - now);
+                }
+                probeInFlight = true;
+                lastAdmittedAt = now;
+                return Reservation.GRANTED;
+            }
+
+            if (cycleAdmitted >= budget) {
+                long resumeAt = lastAdmittedAt + lockoutNanos;
+                if (now < resumeAt) {
+                    return priority == RequestPriority.LOW
+                            ? Reservation.REJECTED
+                            : Reservation.waitFor(resumeAt - now);
+                }
+                previousCycleAdmitted = cycleAdmitted;
+                cycleAdmitted = 0;
+                cycleSuccesses = 0;
+            }
+            if (priority == RequestPriority.LOW
+                    && budget != UNKNOWN_BUDGET
+                    && budget - cycleAdmitted <= lowPriorityReserve) {
+                return Reservation.REJECTED;
+            }
+            cycleAdmitted++;
+            lastAdmittedAt = now;
+            return Reservation.GRANTED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            if (lockedOut && probeInFlight) {
+                if (!probeRetried) {
+                    lockoutNanos = Math.max(minLockoutNanos, lockoutNanos - lockoutDecrementNanos);
+                }
+                log.info(
+                        "Mock API lockout over after {}ms, next lockout estimated at {}ms",
+                        TimeUnit.NANOSECONDS.toMillis(now - lastSuccessAt),
+                        TimeUnit.NANOSECONDS.toMillis(lockoutNanos));
+                lockedOut = false;
+                probeInFlight = false;
+                probeRetried = false;
+                previousCycleAdmitted = 0;
+                cycleAdmitted = 1;
+                cycleSuccesses = 0;
+            }
+            cycleSuccesses++;
+            lastSuccessAt = now;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onRateLimited() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (lockedOut) {
+                if (probeInFlight) {
+                    probeInFlight = false;
+                    probeRetried = true;
+                    lockoutNanos = Math.min(maxLockoutNanos, lockoutNanos + lockoutNanos / 2);
+                    lockedUntil = Math.max(lastSuccessAt + lockoutNanos, nanoClock.getAsLong() + PROBE_POLL_NANOS);
+                }
+                return;
+            }
+
+            int observed = previousCycleAdmitted + cycleSuccesses;
+            if (observed > 0) {
+                budget = observed;
+            }
+            log.warn(
+                    "Mock API rate limited after {} successful requests, holding traffic for {}ms",
+                    observed,
+                    TimeUnit.NANOSECONDS.toMillis(lockoutNanos));
+            lockedOut = true;
+            lockedUntil = (lastSuccessAt == 0 ? nanoClock.getAsLong() : lastSuccessAt) + lockoutNanos;
+            previousCycleAdmitted = 0;
+            cycleAdmitted = 0;
+            cycleSuccesses = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases an admitted request that failed for a reason other than rate limiting.
+     */
+    public void onFailure() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            probeInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the learned budget, or empty until the first 429
+     */
+    public OptionalInt budget() {
+        lock.lock();
+        try {
+            return budget == UNKNOWN_BUDGET ? OptionalInt.empty() : OptionalInt.of(budget);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Duration lockout() {
+        lock.lock();
+        try {
+            return Duration.ofNanos(lockoutNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Outcome of {@link #reserve}: granted, rejected, or a hint of how long to wait before asking again.
+     */
+    public record Reservation(boolean granted, long waitNanos) {
+
+        static final Reservation GRANTED = new Reservation(true, 0);
+        static final Reservation REJECTED = new Reservation(false, -1);
+
+        static Reservation waitFor(long nanos) {
+            return new Reservation(false, nanos);
+        }
+
+        public boolean rejected() {
+            return !granted && waitNanos < 0;
+        }
+    }
+}
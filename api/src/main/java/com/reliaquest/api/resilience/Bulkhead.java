@@ -0,0 +1,38 @@
+package com.reliaquest.api.resilience;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Caps the number of mock API calls in flight. A call that finds the bulkhead full is refused at once rather than
+ * queued, so a slow mock API cannot tie up every request thread and every pooled connection.
+ */
+public class Bulkhead {
+
+    private final int maxConcurrent;
+    private final Semaphore permits;
+
+    public Bulkhead(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    public static Bulkhead unbounded() {
+        return new Bulkhead(Integer.MAX_VALUE);
+    }
+
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
@@ -0,0 +1,180 @@
+package com.reliaquest.api.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stops calling one mock API operation while it keeps failing.
+ *
+ * <p>The breaker starts {@link State#CLOSED closed} and counts consecutive failures, meaning 429s, 5xx responses and
+ * I/O errors. Any other response resets the count, because it shows the mock API is answering. After
+ * {@code failureThreshold} failures in a row the breaker {@link State#OPEN opens} and refuses every call for
+ * {@code openDuration}, so callers fail at once instead of queueing behind a lockout. It then turns
+ * {@link State#HALF_OPEN half-open} and lets exactly one probe through: if the probe succeeds the breaker closes, and
+ * if it fails the breaker opens for another {@code openDuration}.
+ *
+ * <p>Every permitted call must be followed by exactly one call to {@link #onSuccess}, {@link #onFailure} or
+ * {@link #release}. Thread-safe.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final boolean enabled;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock.
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntil;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this(name, true, failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, boolean enabled, int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        this.name = name;
+        this.enabled = enabled;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return a breaker that never opens, for when {@code mock.api.circuit-breaker.enabled} is false
+     */
+    public static CircuitBreaker disabled(String name) {
+        return new CircuitBreaker(name, false, Integer.MAX_VALUE, Duration.ZERO, System::nanoTime);
+    }
+
+    /**
+     * @return whether a call may go ahead; when half-open, only the first caller is permitted
+     */
+    public boolean tryAcquire() {
+        if (!enabled) {
+            return true;
+        }
+        lock.lock();
+        try {
+            return switch (state) {
+                case CLOSED -> true;
+                case OPEN -> {
+                    if (nanoClock.getAsLong() < openUntil) {
+                        yield false;
+                    }
+                    log.info("Circuit breaker for {} half-open, sending a probe", name);
+                    state = State.HALF_OPEN;
+                    probeInFlight = true;
+                    yield true;
+                }
+                case HALF_OPEN -> {
+                    if (probeInFlight) {
+                        yield false;
+                    }
+                    probeInFlight = true;
+                    yield true;
+                }
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                log.info("Circuit breaker for {} closed, probe succeeded", name);
+                state = State.CLOSED;
+                probeInFlight = false;
+            }
+            consecutiveFailures = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                probeInFlight = false;
+                open("probe failed");
+            } else if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+                open(consecutiveFailures + " consecutive failures");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a permission that was not used, for example because the rate limiter held the call back.
+     */
+    public void release() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                probeInFlight = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return how long until the breaker lets a probe through, or zero when it is not open
+     */
+    public Duration retryAfter() {
+        lock.lock();
+        try {
+            return state == State.OPEN
+                    ? Duration.ofNanos(Math.max(0, openUntil - nanoClock.getAsLong()))
+                    : Duration.ZERO;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open(String reason) {
+        log.warn(
+                "Circuit breaker for {} open, {}; failing fast for {}ms",
+                name,
+                reason,
+                TimeUnit.NANOSECONDS.toMillis(openNanos));
+        state = State.OPEN;
+        openUntil = nanoClock.getAsLong() + openNanos;
+        consecutiveFailures = 0;
+    }
+}
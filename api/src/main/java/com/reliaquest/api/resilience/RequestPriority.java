@@ -0,0 +1,11 @@
+package com.reliaquest.api.resilience;
+
+/**
+ * How important an upstream request is when the mock API's request budget runs short.
+ */
+public enum RequestPriority {
+    /** Work a client is waiting on; queued while the budget is exhausted. */
+    HIGH,
+    /** Background work such as cache refreshes; shed rather than queued. */
+    LOW
+}
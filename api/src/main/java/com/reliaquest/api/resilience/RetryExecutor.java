@@ -0,0 +1,360 @@
+package com.reliaquest.api.resilience;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.RateLimitException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Runs calls to the mock API through a {@link CircuitBreaker} per operation, a shared {@link Bulkhead} and the
+ * {@link AdaptiveRateLimiter}, and retries the ones it rate limits, without holding a thread while waiting.
+ *
+ * <p>Each attempt must get past all three. An open breaker or a full bulkhead fails the request at once with
+ * {@link UpstreamUnavailableException}, including a request that is waiting to retry a 429, so callers stop queueing
+ * behind a mock API that keeps refusing. A permit is held only while an attempt is in flight, never while waiting.
+ *
+ * <p>Blocking calls run on {@code attemptExecutor}; non-blocking ones passed to {@link #executeAsync} run wherever
+ * their future completes. When a call fails with {@link RateLimitException}, the next attempt is handed to
+ * {@code timer} with a full-jitter delay, picked uniformly from zero up to
+ * {@code initialDelay * multiplier^(attempt - 1)}. When the limiter asks a request to wait, the request is scheduled
+ * the same way. Nothing sleeps, so a burst of 429s only costs timer entries. A request fails with
+ * {@link RateLimitException} once it has used {@code maxAttempts}, or when its next attempt could not start before
+ * {@code deadline} has passed since it was submitted. Once {@link #shutdown} has run, requests, including those
+ * waiting to retry, fail with {@link UpstreamUnavailableException} rather than as rate limited.
+ *
+ * <p>Every attempt's outcome is reported to the limiter. Any status other than 429 still counts against the mock API's
+ * budget, so it is reported as a success.
+ *
+ * <p>Metrics are tagged with the {@link UpstreamOperation}. {@code mock.api.calls} times each request from submission
+ * to its result, including rate-limit waits and retries, and is also tagged with the outcome;
+ * {@code mock.api.attempts} times each exchange with the mock API. {@code mock.api.rate-limited} counts 429 responses,
+ * {@code mock.api.retries} the attempts scheduled after one, and {@code mock.api.retries.exhausted} the requests that
+ * ran out of attempts or time.
+ */
+@Slf4j
+public class RetryExecutor {
+
+    private final AdaptiveRateLimiter rateLimiter;
+    private final Map<UpstreamOperation, CircuitBreaker> circuitBreakers = new EnumMap<>(UpstreamOperation.class);
+    private final Bulkhead bulkhead;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService attemptExecutor;
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final double multiplier;
+    private final long deadlineNanos;
+    private final Map<UpstreamOperation, OperationMeters> meters = new EnumMap<>(UpstreamOperation.class);
+
+    public RetryExecutor(
+            AdaptiveRateLimiter rateLimiter,
+            Function<UpstreamOperation, CircuitBreaker> circuitBreakerFactory,
+            Bulkhead bulkhead,
+            ScheduledExecutorService timer,
+            ExecutorService attemptExecutor,
+            int maxAttempts,
+            Duration initialDelay,
+            double multiplier,
+            Duration deadline,
+            MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.bulkhead = bulkhead;
+        this.timer = timer;
+        this.attemptExecutor = attemptExecutor;
+        this.maxAttempts = maxAttempts;
+        this.initialDelayNanos = initialDelay.toNanos();
+        this.multiplier = multiplier;
+        this.deadlineNanos = deadline.toNanos();
+        for (UpstreamOperation operation : UpstreamOperation.values()) {
+            CircuitBreaker circuitBreaker = circuitBreakerFactory.apply(operation);
+            circuitBreakers.put(operation, circuitBreaker);
+            meters.put(operation, new OperationMeters(operation, meterRegistry));
+            Gauge.builder("mock.api.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                    .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+                    .tag("operation", operation.tag())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("mock.api.bulkhead.in-flight", bulkhead, Bulkhead::inFlight)
+                .description("Mock API calls holding a bulkhead permit")
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> execute(UpstreamOperation operation, RequestPriority priority, Supplier<T> call) {
+        return executeAsync(operation, priority, () -> CompletableFuture.supplyAsync(call, attemptExecutor));
+    }
+
+    /**
+     * Like {@link #execute}, for calls that are already non-blocking. Each attempt is started on whichever thread
+     * admits it, the caller's or the timer's, so {@code call} must return without waiting on I/O.
+     */
+    public <T> CompletableFuture<T> executeAsync(
+            UpstreamOperation operation, RequestPriority priority, Supplier<CompletableFuture<T>> call) {
+        Execution<T> execution = new Execution<>(operation, priority, call);
+        execution.admit();
+        return execution.result;
+    }
+
+    public void shutdown() {
+        timer.shutdownNow();
+        attemptExecutor.shutdownNow();
+    }
+
+    /**
+     * @return a full-jitter delay before the attempt after {@code attempt}
+     */
+    long backoffNanos(int attempt) {
+        double ceiling = initialDelayNanos * Math.pow(multiplier, attempt - 1);
+        long bound = (long) Math.min(ceiling, deadlineNanos);
+        return bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+
+    private static boolean isErrorResponse(Throwable e) {
+        return e instanceof RestClientResponseException || e instanceof WebClientResponseException;
+    }
+
+    /**
+     * A 4xx other than 429 means the mock API is up and rejected this request, so it does not count against the
+     * breaker.
+     */
+    private static boolean isClientError(Throwable e) {
+        return e instanceof RestClientResponseException response
+                        && response.getStatusCode().is4xxClientError()
+                || e instanceof WebClientResponseException response
+                        && response.getStatusCode().is4xxClientError();
+    }
+
+    private enum Outcome {
+        SUCCESS,
+        NOT_FOUND,
+        RATE_LIMITED,
+        SHED,
+        UNAVAILABLE,
+        ERROR;
+
+        final String tag = name().toLowerCase();
+    }
+
+    private static final class OperationMeters {
+
+        private final Map<Outcome, Timer> calls = new EnumMap<>(Outcome.class);
+        private final Timer attempts;
+        private final Counter rateLimited;
+        private final Counter retries;
+        private final Counter exhausted;
+
+        OperationMeters(UpstreamOperation operation, MeterRegistry registry) {
+            for (Outcome outcome : Outcome.values()) {
+                calls.put(
+                        outcome,
+                        Timer.builder("mock.api.calls")
+                                .description("Mock API requests from submission to result, including retries")
+                                .tag("operation", operation.tag())
+                                .tag("outcome", outcome.tag)
+                                .register(registry));
+            }
+            attempts = Timer.builder("mock.api.attempts")
+                    .description("Single exchanges with the mock API")
+                    .tag("operation", operation.tag())
+                    .register(registry);
+            rateLimited = Counter.builder("mock.api.rate-limited")
+                    .description("429 responses from the mock API")
+                    .tag("operation", operation.tag())
+                    .register(registry);
+            retries = Counter.builder("mock.api.retries")
+                    .description("Attempts scheduled after a 429")
+                    .tag("operation", operation.tag())
+                    .register(registry);
+            exhausted = Counter.builder("mock.api.retries.exhausted")
+                    .description("Requests that gave up after running out of attempts or time")
+                    .tag("operation", operation.tag())
+                    .register(registry);
+        }
+    }
+
+    private final class Execution<T> {
+
+        private final UpstreamOperation operation;
+        private final CircuitBreaker circuitBreaker;
+        private final OperationMeters meters;
+        private final RequestPriority priority;
+        private final Supplier<CompletableFuture<T>> call;
+        private final long submittedAt = System.nanoTime();
+        private final long deadline = submittedAt + deadlineNanos;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private int attempts;
+        private long attemptStartedAt;
+
+        Execution(UpstreamOperation operation, RequestPriority priority, Supplier<CompletableFuture<T>> call) {
+            this.operation = operation;
+            this.circuitBreaker = circuitBreakers.get(operation);
+            this.meters = RetryExecutor.this.meters.get(operation);
+            this.priority = priority;
+            this.call = call;
+        }
+
+        void admit() {
+            if (result.isDone()) {
+                return;
+            }
+            if (!circuitBreaker.tryAcquire()) {
+                fail(
+                        Outcome.UNAVAILABLE,
+                        new UpstreamUnavailableException(
+                                "Mock API " + operation.tag() + " circuit breaker is open",
+                                circuitBreaker.retryAfter()));
+                return;
+            }
+            if (!bulkhead.tryAcquire()) {
+                circuitBreaker.release();
+                fail(
+                        Outcome.UNAVAILABLE,
+                        new UpstreamUnavailableException(
+                                "Too many mock API calls in flight, limit is " + bulkhead.maxConcurrent(),
+                                Duration.ZERO));
+                return;
+            }
+            AdaptiveRateLimiter.Reservation reservation = rateLimiter.reserve(priority);
+            if (!reservation.granted()) {
+                bulkhead.release();
+                circuitBreaker.release();
+            }
+            if (reservation.rejected()) {
+                fail(
+                        Outcome.SHED,
+                        new RateLimitException(
+                                "Mock API request budget is reserved, shedding " + priority + " priority request"));
+            } else if (!reservation.granted()) {
+                if (System.nanoTime() + reservation.waitNanos() > deadline) {
+                    fail(
+                            Outcome.RATE_LIMITED,
+                            new RateLimitException(
+                                    "Mock API is rate limiting, next request allowed in "
+                                            + TimeUnit.NANOSECONDS.toMillis(reservation.waitNanos()) + "ms",
+                                    Duration.ofNanos(reservation.waitNanos())));
+                } else {
+                    schedule(reservation.waitNanos());
+                }
+            } else {
+                attempt();
+            }
+        }
+
+        private void attempt() {
+            attempts++;
+            attemptStartedAt = System.nanoTime();
+            CompletableFuture<T> attempt;
+            try {
+                attempt = call.get();
+            } catch (RejectedExecutionException e) {
+                rateLimiter.onFailure();
+                bulkhead.release();
+                circuitBreaker.release();
+                fail(Outcome.UNAVAILABLE, shuttingDown(e));
+                return;
+            } catch (RuntimeException e) {
+                attempt = CompletableFuture.failedFuture(e);
+            }
+            attempt.whenComplete(this::attempted);
+        }
+
+        private void attempted(T value, Throwable failure) {
+            meters.attempts.record(System.nanoTime() - attemptStartedAt, TimeUnit.NANOSECONDS);
+            bulkhead.release();
+            if (failure == null) {
+                rateLimiter.onSuccess();
+                circuitBreaker.onSuccess();
+                meters.calls.get(Outcome.SUCCESS).record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                result.complete(value);
+                return;
+            }
+            Throwable cause =
+                    failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+            if (cause instanceof RateLimitException e) {
+                rateLimiter.onRateLimited();
+                circuitBreaker.onFailure();
+                meters.rateLimited.increment();
+                retry(e);
+                return;
+            }
+            if (cause instanceof EmployeeNotFoundException || isErrorResponse(cause.getCause())) {
+                rateLimiter.onSuccess();
+            } else {
+                rateLimiter.onFailure();
+            }
+            if (cause instanceof EmployeeNotFoundException || isClientError(cause.getCause())) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+            fail(cause instanceof EmployeeNotFoundException ? Outcome.NOT_FOUND : Outcome.ERROR, cause);
+        }
+
+        private void retry(RateLimitException cause) {
+            if (attempts >= maxAttempts) {
+                log.error("Max retry attempts ({}) reached for rate limit", maxAttempts);
+                meters.exhausted.increment();
+                fail(
+                        Outcome.RATE_LIMITED,
+                        new RateLimitException("Rate limit exceeded after " + maxAttempts + " attempts", cause));
+                return;
+            }
+            long delayNanos = backoffNanos(attempts);
+            if (System.nanoTime() + delayNanos > deadline) {
+                log.error("Retry deadline reached after {} attempts for rate limit", attempts);
+                meters.exhausted.increment();
+                fail(
+                        Outcome.RATE_LIMITED,
+                        new RateLimitException(
+                                "Rate limit exceeded, retry deadline of "
+                                        + TimeUnit.NANOSECONDS.toMillis(deadlineNanos) + "ms reached after " + attempts
+                                        + " attempts",
+                                cause));
+                return;
+            }
+            log.warn(
+                    "Rate limit hit, attempt {}/{}, retrying in {}ms",
+                    attempts,
+                    maxAttempts,
+                    TimeUnit.NANOSECONDS.toMillis(delayNanos));
+            meters.retries.increment();
+            schedule(delayNanos);
+        }
+
+        private void schedule(long delayNanos) {
+            try {
+                timer.schedule(this::admit, delayNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                fail(Outcome.UNAVAILABLE, shuttingDown(e));
+            }
+        }
+
+        /*
+         * Not a RateLimitException: callers would answer 429 and bulk operations would queue the call again.
+         */
+        private UpstreamUnavailableException shuttingDown(RejectedExecutionException e) {
+            return new UpstreamUnavailableException("Mock API client is shutting down", Duration.ZERO, e);
+        }
+
+        private void fail(Outcome outcome, Throwable failure) {
+            meters.calls.get(outcome).record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            result.completeExceptionally(failure);
+        }
+    }
+}
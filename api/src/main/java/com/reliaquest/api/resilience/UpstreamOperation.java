@@ -0,0 +1,22 @@
+package com.reliaquest.api.resilience;
+
+/**
+ * The mock API call a request to the {@link RetryExecutor} makes, used to tag its metrics.
+ */
+public enum UpstreamOperation {
+    GET_ALL("getAll"),
+    GET_PAGE("getPage"),
+    GET_BY_ID("getById"),
+    CREATE("create"),
+    DELETE("delete");
+
+    private final String tag;
+
+    UpstreamOperation(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,228 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.exception.RateLimitException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs one asynchronous mock API call per item of a batch, keeping at most {@code maxInFlight} in flight and starting
+ * the next as each one finishes. Calls still go through the mock API client's rate limiter, so a batch is paced by
+ * the learned request budget. A call that is rate limited until its retry deadline is queued again behind the rest of
+ * the batch once the mock API is expected to take requests again: after the exception's {@code retryAfter}, or
+ * {@code requeueDelay} when it has none. Items stop being queued again once {@code timeout} has passed.
+ *
+ * <p>The listener sees each item's outcome once, in completion order and one at a time. Outcomes are recorded under
+ * the pipeline's lock and delivered outside it by whichever thread finds none being delivered, so a listener that
+ * blocks, for example on a slow client, holds up later deliveries but not the calls in flight. If it throws, for
+ * example because the client has gone away, no further calls are started and the batch completes once the calls in
+ * flight have finished and their outcomes have been delivered.
+ *
+ * <p>Whichever thread finds a free slot submits the next call. A call that completes on the submitting thread only
+ * frees its slot, so a run of immediate failures is drained by a loop rather than by recursion.
+ */
+@Slf4j
+final class BulkPipeline<T> {
+
+    private final int maxInFlight;
+    private final long requeueDelayNanos;
+    private final IntFunction<CompletableFuture<T>> call;
+    private final Listener<T> listener;
+    private final long deadline;
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock.
+    private final Deque<Integer> pending = new ArrayDeque<>();
+    private final Deque<Outcome<T>> outcomes = new ArrayDeque<>();
+    private int inFlight;
+    private int remaining;
+    private boolean dispatching;
+    private boolean delivering;
+    private boolean cancelled;
+
+    BulkPipeline(
+            int size,
+            int maxInFlight,
+            Duration timeout,
+            Duration requeueDelay,
+            IntFunction<CompletableFuture<T>> call,
+            Listener<T> listener) {
+        this.maxInFlight = maxInFlight;
+        this.requeueDelayNanos = requeueDelay.toNanos();
+        this.call = call;
+        this.listener = listener;
+        this.deadline = System.nanoTime() + timeout.toNanos();
+        for (int i = 0; i < size; i++) {
+            pending.add(i);
+        }
+        this.remaining = size;
+    }
+
+    /**
+     * @return a future that completes when every item has an outcome, or the batch has been cancelled
+     */
+    CompletableFuture<Void> start() {
+        if (remaining == 0) {
+            done.complete(null);
+        } else {
+            dispatch();
+        }
+        return done;
+    }
+
+    private void dispatch() {
+        lock.lock();
+        try {
+            if (dispatching) {
+                return;
+            }
+            dispatching = true;
+        } finally {
+            lock.unlock();
+        }
+        while (true) {
+            int index;
+            lock.lock();
+            try {
+                if (cancelled || inFlight >= maxInFlight || pending.isEmpty()) {
+                    dispatching = false;
+                    return;
+                }
+                index = pending.poll();
+                inFlight++;
+            } finally {
+                lock.unlock();
+            }
+            submit(index);
+        }
+    }
+
+    private void submit(int index) {
+        CompletableFuture<T> future;
+        try {
+            future = call.apply(index);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((result, failure) -> completed(index, result, failure));
+    }
+
+    private void completed(int index, T result, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        long requeueAfter = -1;
+        lock.lock();
+        try {
+            inFlight--;
+            if (cause instanceof RateLimitException e && !cancelled) {
+                long delay = e.getRetryAfter() == null
+                        ? requeueDelayNanos
+                        : Math.max(e.getRetryAfter().toNanos(), 0);
+                if (System.nanoTime() + delay < deadline) {
+                    requeueAfter = delay;
+                }
+            }
+            if (requeueAfter < 0) {
+                remaining--;
+                outcomes.add(new Outcome<>(index, result, cause));
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (requeueAfter >= 0) {
+            log.debug(
+                    "Bulk item {} rate limited, queueing it again in {}ms",
+                    index,
+                    TimeUnit.NANOSECONDS.toMillis(requeueAfter));
+            CompletableFuture.delayedExecutor(requeueAfter, TimeUnit.NANOSECONDS)
+                    .execute(() -> requeue(index));
+        }
+        deliver();
+        dispatch();
+    }
+
+    private void requeue(int index) {
+        lock.lock();
+        try {
+            if (cancelled) {
+                return;
+            }
+            pending.addLast(index);
+        } finally {
+            lock.unlock();
+        }
+        dispatch();
+    }
+
+    /**
+     * Passes recorded outcomes to the listener, outside the lock, unless another thread is already doing so; that
+     * thread picks up any outcome recorded before it finishes. Completes the batch once nothing is left to deliver.
+     */
+    private void deliver() {
+        lock.lock();
+        try {
+            if (delivering) {
+                return;
+            }
+            delivering = true;
+        } finally {
+            lock.unlock();
+        }
+        while (true) {
+            Outcome<T> outcome;
+            boolean finished = false;
+            lock.lock();
+            try {
+                outcome = outcomes.poll();
+                if (outcome == null) {
+                    delivering = false;
+                    finished = remaining == 0 || (cancelled && inFlight == 0);
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (outcome == null) {
+                if (finished) {
+                    done.complete(null);
+                }
+                return;
+            }
+            report(outcome);
+        }
+    }
+
+    private void report(Outcome<T> outcome) {
+        try {
+            listener.completed(outcome.index(), outcome.result(), outcome.failure());
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                if (!cancelled) {
+                    log.warn("Stopping bulk operation after item {}: {}", outcome.index(), e.getMessage());
+                    cancelled = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Listener<T> {
+
+        /**
+         * @param failure the call's failure, unwrapped from any {@link CompletionException}, or null if it succeeded
+         */
+        void completed(int index, T result, Throwable failure);
+    }
+
+    private record Outcome<T>(int index, T result, Throwable failure) {}
+}
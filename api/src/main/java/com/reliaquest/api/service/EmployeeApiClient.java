@@ -1,159 +1,121 @@
 package com.reliaquest.api.service;
 
-import com.reliaquest.api.exception.EmployeeApiException;
-import com.reliaquest.api.exception.EmployeeNotFoundException;
-import com.reliaquest.api.exception.RateLimitException;
-import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.resilience.RequestPriority;
+import com.reliaquest.api.resilience.RetryExecutor;
+import java.util.ArrayList;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
-
-@Slf4j
-@Service
-@RequiredArgsConstructor
-public class EmployeeApiClient {
-
-    private final RestTemplate restTemplate;
-
-    @Value("${mock.api.base-url}")
-    private String baseUrl;
-
-    @Value("${mock.api.retry.max-attempts:3}")
-    private int maxRetryAttempts;
-
-    @Value("${mock.api.retry.initial-delay-ms:2000}")
-    private long initialRetryDelayMs;
-
-    @Value("${mock.api.retry.multiplier:2}")
-    private int retryMultiplier;
-
-    public List<Employee> getAllEmployees() {
-        log.info("Fetching all employees from mock API");
-        return executeWithRetry(() -> {
-            ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
-                    baseUrl, HttpMethod.GET, null, new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
-
-            ApiResponse<List<Employee>> apiResponse = response.getBody();
-            if (apiResponse != null && apiResponse.getData() != null) {
-                log.info(
-                        "Successfully fetched {} employees",
-                        apiResponse.getData().size());
-                return apiResponse.getData();
-            }
-            throw new EmployeeApiException("No data returned from API");
-        });
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+/**
+ * Client for the mock employee API. Implementations differ only in how they make the HTTP exchange and are selected by
+ * {@code mock.api.client.type}: {@code rest-template} (default) or {@code web-client}. Both run every call through the
+ * {@link RetryExecutor}, so 429s surface as {@link com.reliaquest.api.exception.RateLimitException} after the same
+ * retries, and an unknown id as {@link com.reliaquest.api.exception.EmployeeNotFoundException}.
+ */
+public interface EmployeeApiClient {
+
+    default List<Employee> getAllEmployees() {
+        return getAllEmployees(RequestPriority.HIGH);
     }
 
-    public Employee getEmployeeById(String id) {
-        log.info("Fetching employee by id: {}", id);
-        return executeWithRetry(() -> {
-            try {
-                ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
-                        baseUrl + "/" + id,
-                        HttpMethod.GET,
-                        null,
-                        new ParameterizedTypeReference<ApiResponse<Employee>>() {});
-
-                ApiResponse<Employee> apiResponse = response.getBody();
-                if (apiResponse != null && apiResponse.getData() != null) {
-                    log.info(
-                            "Successfully fetched employee: {}",
-                            apiResponse.getData().getName());
-                    return apiResponse.getData();
-                }
-                throw new EmployeeNotFoundException("Employee with id " + id + " not found");
-            } catch (HttpClientErrorException.NotFound e) {
-                log.warn("Employee not found with id: {}", id);
-                throw new EmployeeNotFoundException("Employee with id " + id + " not found");
-            }
-        });
+    /**
+     * @param priority {@link RequestPriority#LOW} for background refreshes, which are shed rather than queued when the
+     *     mock API's request budget runs short
+     */
+    default List<Employee> getAllEmployees(RequestPriority priority) {
+        return await(getAllEmployeesAsync(priority));
     }
 
-    public Employee createEmployee(EmployeeInput input) {
-        log.info("Creating employee: {}", input.getName());
-        return executeWithRetry(() -> {
-            HttpEntity<EmployeeInput> request = new HttpEntity<>(input);
-            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
-                    baseUrl, HttpMethod.POST, request, new ParameterizedTypeReference<ApiResponse<Employee>>() {});
-
-            ApiResponse<Employee> apiResponse = response.getBody();
-            if (apiResponse != null && apiResponse.getData() != null) {
-                log.info(
-                        "Successfully created employee: {}",
-                        apiResponse.getData().getName());
-                return apiResponse.getData();
-            }
-            throw new EmployeeApiException("Failed to create employee");
-        });
+    default CompletableFuture<List<Employee>> getAllEmployeesAsync(RequestPriority priority) {
+        List<Employee> employees = new ArrayList<>();
+        return streamAllEmployeesAsync(priority, employees::add).thenApply(count -> employees);
     }
 
-    public Boolean deleteEmployeeByName(String name) {
-        log.info("Deleting employee by name: {}", name);
-        return executeWithRetry(() -> {
-            // Mock API expects DELETE with body containing name
-            DeleteRequest deleteRequest = new DeleteRequest(name);
-            HttpEntity<DeleteRequest> request = new HttpEntity<>(deleteRequest);
+    default int streamAllEmployees(RequestPriority priority, Consumer<Employee> sink) {
+        return await(streamAllEmployeesAsync(priority, sink));
+    }
 
-            ResponseEntity<ApiResponse<Boolean>> response = restTemplate.exchange(
-                    baseUrl, HttpMethod.DELETE, request, new ParameterizedTypeReference<ApiResponse<Boolean>>() {});
+    /**
+     * Passes each employee in the list to {@code sink} as soon as it is parsed, without building the list. Only an
+     * attempt that gets a successful response reads the body, so a retried 429 never reaches the sink; if the body
+     * fails part way through, the future fails and whatever the sink received should be discarded.
+     *
+     * @return the number of employees passed to {@code sink}
+     */
+    CompletableFuture<Integer> streamAllEmployeesAsync(RequestPriority priority, Consumer<Employee> sink);
+
+    /**
+     * Streams one page of the mock API's paginated list to {@code sink}, as {@link #streamAllEmployeesAsync} does for
+     * the whole list.
+     *
+     * @param after cursor to start after, or null for the start of the list
+     * @param until last cursor to include, or null for the end of the list
+     * @param limit page size; the mock API may cap it
+     */
+    CompletableFuture<Page> streamEmployeePageAsync(
+            RequestPriority priority, Long after, Long until, int limit, Consumer<Employee> sink);
+
+    default int streamAllEmployeesPaged(
+            RequestPriority priority, int pageSize, int partitions, Consumer<Employee> sink) {
+        return await(streamAllEmployeesPagedAsync(priority, pageSize, partitions, sink));
+    }
 
-            ApiResponse<Boolean> apiResponse = response.getBody();
-            if (apiResponse != null && apiResponse.getData() != null) {
-                log.info("Successfully deleted employee: {}", name);
-                return apiResponse.getData();
-            }
-            throw new EmployeeApiException("Failed to delete employee");
-        });
+    /**
+     * Like {@link #streamAllEmployeesAsync}, but reads the paginated list with up to {@code partitions} pages in flight
+     * at a time; see {@link PagedEmployeeReader}. The sink is called on one thread at a time.
+     */
+    default CompletableFuture<Integer> streamAllEmployeesPagedAsync(
+            RequestPriority priority, int pageSize, int partitions, Consumer<Employee> sink) {
+        return new PagedEmployeeReader(this, priority, pageSize, partitions).read(sink);
     }
 
-    private <T> T executeWithRetry(ApiCall<T> apiCall) {
-        int attempt = 0;
-        long delayMs = initialRetryDelayMs;
-
-        while (true) {
-            try {
-                return apiCall.execute();
-            } catch (HttpClientErrorException e) {
-                if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
-                    attempt++;
-                    if (attempt >= maxRetryAttempts) {
-                        log.error("Max retry attempts ({}) reached for rate limit", maxRetryAttempts);
-                        throw new RateLimitException("Rate limit exceeded after " + maxRetryAttempts + " attempts");
-                    }
-                    log.warn("Rate limit hit, attempt {}/{}, retrying in {}ms", attempt, maxRetryAttempts, delayMs);
-                    try {
-                        Thread.sleep(delayMs);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new EmployeeApiException("Retry interrupted", ie);
-                    }
-                    delayMs *= retryMultiplier;
-                } else {
-                    throw new EmployeeApiException("API call failed: " + e.getMessage(), e);
-                }
-            } catch (EmployeeNotFoundException e) {
-                throw e;
-            } catch (Exception e) {
-                throw new EmployeeApiException("Unexpected error calling API: " + e.getMessage(), e);
-            }
-        }
+    default Employee getEmployeeById(String id) {
+        return await(getEmployeeByIdAsync(id));
     }
 
-    @FunctionalInterface
-    private interface ApiCall<T> {
-        T execute();
+    CompletableFuture<Employee> getEmployeeByIdAsync(String id);
+
+    default Employee createEmployee(EmployeeInput input) {
+        return await(createEmployeeAsync(input));
+    }
+
+    CompletableFuture<Employee> createEmployeeAsync(EmployeeInput input);
+
+    default Boolean deleteEmployeeByName(String name) {
+        return await(deleteEmployeeByNameAsync(name));
+    }
+
+    CompletableFuture<Boolean> deleteEmployeeByNameAsync(String name);
+
+    /**
+     * Blocks for callers that still use the synchronous methods, rethrowing the failure the call completed with. The
+     * calling thread stays parked here until the call completes, including while a retry waits on the timer; only
+     * callers of the {@code *Async} methods, such as {@code AsyncEmployeeController}, are freed while waiting.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
-    private record DeleteRequest(String name) {}
+    /**
+     * @param count the number of employees passed to the sink
+     * @param nextCursor the cursor to continue the requested range from, or null if this page ends it
+     * @param endCursor the cursor of the last employee in the whole list, or null if it is empty
+     */
+    record Page(int count, Long nextCursor, Long endCursor) {}
+
+    /**
+     * Body of the mock API's delete call, which deletes by name rather than by id.
+     */
+    record DeleteRequest(String name) {}
 }
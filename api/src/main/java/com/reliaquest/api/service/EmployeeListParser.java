@@ -0,0 +1,209 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads the mock API's {@code {"data": [...], "status": ...}} employee list one element at a time, handing each
+ * employee to a sink as soon as its closing brace is read. Neither the response body nor the list is ever held in
+ * full, so a large list costs the sink's own storage plus one employee at a time.
+ *
+ * <p>Pages of the paginated list have the same shape plus {@code next_cursor} and {@code end_cursor}, which are kept
+ * for {@link Feed#page()}.
+ *
+ * <p>{@link #parse} reads a blocking {@link InputStream}. {@link #feed} returns a {@link Feed} for bodies that arrive
+ * as buffers, such as a reactive response; an employee split across buffers is collected in a {@link TokenBuffer}
+ * until it is complete.
+ */
+@Component
+public class EmployeeListParser {
+
+    private static final int DATA_DEPTH = 2;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader employeeReader;
+
+    public EmployeeListParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.employeeReader = objectMapper.readerFor(Employee.class);
+    }
+
+    /**
+     * @return the number of employees passed to {@code sink}
+     */
+    public int parse(InputStream body, Consumer<Employee> sink) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            Feed feed = new Feed(parser, sink);
+            feed.drain();
+            return feed.finish();
+        } catch (IOException e) {
+            throw new EmployeeApiException("Failed to read employee list: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Like {@link #parse}, for one page of the mock API's paginated list.
+     */
+    public EmployeeApiClient.Page parsePage(InputStream body, Consumer<Employee> sink) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            Feed feed = new Feed(parser, sink);
+            feed.drain();
+            feed.finish();
+            return feed.page();
+        } catch (IOException e) {
+            throw new EmployeeApiException("Failed to read employee page: " + e.getMessage(), e);
+        }
+    }
+
+    public Feed feed(Consumer<Employee> sink) {
+        try {
+            return new Feed(objectMapper.getFactory().createNonBlockingByteBufferParser(), sink);
+        } catch (IOException e) {
+            throw new EmployeeApiException("Failed to create employee list parser: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parse state for one response. Not thread-safe; buffers must be fed in order, one at a time.
+     */
+    public final class Feed {
+
+        private final JsonParser parser;
+        private final Consumer<Employee> sink;
+        private int depth;
+        private String field;
+        private boolean inData;
+        private boolean sawData;
+        private String error;
+        private Long nextCursor;
+        private Long endCursor;
+        private TokenBuffer element;
+        private int count;
+
+        private Feed(JsonParser parser, Consumer<Employee> sink) {
+            this.parser = parser;
+            this.sink = sink;
+        }
+
+        /**
+         * Parses every complete token in {@code buffer}. The buffer is fully consumed before this returns.
+         */
+        public void accept(ByteBuffer buffer) {
+            try {
+                ((ByteBufferFeeder) parser.getNonBlockingInputFeeder()).feedInput(buffer);
+                drain();
+            } catch (IOException e) {
+                throw new EmployeeApiException("Failed to read employee list: " + e.getMessage(), e);
+            }
+        }
+
+        /**
+         * Signals the end of the body.
+         *
+         * @return the number of employees passed to the sink
+         */
+        public int finish() {
+            try {
+                if (parser.canParseAsync()) {
+                    ((ByteBufferFeeder) parser.getNonBlockingInputFeeder()).endOfInput();
+                    drain();
+                }
+            } catch (IOException e) {
+                throw new EmployeeApiException("Failed to read employee list: " + e.getMessage(), e);
+            }
+            if (depth != 0 || element != null) {
+                throw new EmployeeApiException("Employee list ended unexpectedly after " + count + " employees");
+            }
+            if (!sawData) {
+                throw new EmployeeApiException(
+                        error == null ? "No data returned from API" : "No data returned from API: " + error);
+            }
+            return count;
+        }
+
+        /**
+         * @return the count and cursors of a page of the paginated list, once {@link #finish} has returned
+         */
+        public EmployeeApiClient.Page page() {
+            return new EmployeeApiClient.Page(count, nextCursor, endCursor);
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (element != null) {
+                    element.copyCurrentEvent(parser);
+                    depth += token.isStructStart() ? 1 : token.isStructEnd() ? -1 : 0;
+                    if (depth == DATA_DEPTH) {
+                        emit(employeeReader.readValue(element.asParser()));
+                        element = null;
+                    }
+                    continue;
+                }
+                switch (token) {
+                    case START_OBJECT -> {
+                        if (inData && depth == DATA_DEPTH) {
+                            if (parser.canParseAsync()) {
+                                element = new TokenBuffer(parser);
+                                element.copyCurrentEvent(parser);
+                                depth++;
+                            } else {
+                                // A blocking parser already has the whole element available.
+                                emit(employeeReader.readValue(parser));
+                            }
+                        } else {
+                            depth++;
+                        }
+                    }
+                    case START_ARRAY -> {
+                        if (depth == 1 && "data".equals(field)) {
+                            inData = true;
+                            sawData = true;
+                        }
+                        depth++;
+                    }
+                    case END_OBJECT, END_ARRAY -> {
+                        depth--;
+                        if (depth == 1) {
+                            inData = false;
+                        }
+                    }
+                    case FIELD_NAME -> {
+                        if (depth == 1) {
+                            field = parser.currentName();
+                        }
+                    }
+                    case VALUE_STRING -> {
+                        if (depth == 1 && "error".equals(field)) {
+                            error = parser.getText();
+                        }
+                    }
+                    case VALUE_NUMBER_INT -> {
+                        if (depth == 1 && "next_cursor".equals(field)) {
+                            nextCursor = parser.getLongValue();
+                        } else if (depth == 1 && "end_cursor".equals(field)) {
+                            endCursor = parser.getLongValue();
+                        }
+                    }
+                    default -> {}
+                }
+            }
+        }
+
+        private void emit(Employee employee) {
+            sink.accept(employee);
+            count++;
+        }
+    }
+}
@@ -1,14 +1,27 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.model.BulkCreateResult;
+import com.reliaquest.api.model.BulkDeleteResult;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
-import java.util.Comparator;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -16,45 +29,45 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class EmployeeService {
 
+    private static final int TOP_EARNERS_LIMIT = 10;
+
     private final EmployeeApiClient employeeApiClient;
+    private final EmployeeSnapshotCache employeeSnapshotCache;
+
+    @Value("${api.bulk.max-in-flight:8}")
+    private int bulkMaxInFlight = 8;
+
+    @Value("${api.bulk.timeout:10m}")
+    private Duration bulkTimeout = Duration.ofMinutes(10);
+
+    @Value("${api.bulk.requeue-delay:1s}")
+    private Duration bulkRequeueDelay = Duration.ofSeconds(1);
 
-    @Cacheable(value = "employees")
     public List<Employee> getAllEmployees() {
-        log.info("Fetching all employees (cacheable)");
-        return employeeApiClient.getAllEmployees();
+        log.info("Fetching all employees (cached snapshot)");
+        return employeeSnapshotCache.current().getEmployees();
     }
 
     public List<Employee> searchEmployeesByName(String searchString) {
         log.info("Searching employees by name: {}", searchString);
-        List<Employee> allEmployees = getAllEmployees();
-        String searchLower = searchString.toLowerCase();
-        return allEmployees.stream()
-                .filter(emp -> emp.getName().toLowerCase().contains(searchLower))
-                .collect(Collectors.toList());
+        return employeeSnapshotCache.current().getNameIndex().search(searchString);
     }
 
     public Employee getEmployeeById(String id) {
         log.info("Fetching employee by id: {}", id);
-        return employeeApiClient.getEmployeeById(id);
+        return findEmployeeById(id);
     }
 
     public Integer getHighestSalary() {
-        log.info("Calculating highest salary");
-        List<Employee> employees = getAllEmployees();
-        return employees.stream().mapToInt(Employee::getSalary).max().orElse(0);
+        log.info("Fetching highest salary");
+        return highestSalary(employeeSnapshotCache.current());
     }
 
     public List<String> getTopTenHighestEarningEmployeeNames() {
         log.info("Fetching top 10 highest earning employee names");
-        List<Employee> employees = getAllEmployees();
-        return employees.stream()
-                .sorted(Comparator.comparing(Employee::getSalary).reversed())
-                .limit(10)
-                .map(Employee::getName)
-                .collect(Collectors.toList());
+        return topEarnerNames(employeeSnapshotCache.current());
     }
 
-    @CacheEvict(value = "employees", allEntries = true)
     public Employee createEmployee(EmployeeInput input) {
         log.info("Creating employee: {}", input.getName());
 
@@ -62,36 +75,269 @@ public class EmployeeService {
         String email = generateEmail(input.getName());
         log.info("Generated email: {}", email);
 
-        // Create a new input with the email (mock API will use it)
-        EmployeeInput inputWithEmail = EmployeeInput.builder()
-                .name(input.getName())
-                .salary(input.getSalary())
-                .age(input.getAge())
-                .title(input.getTitle())
-                .build();
-
-        return employeeApiClient.createEmployee(inputWithEmail);
+        Employee employee = employeeApiClient.createEmployee(mockApiInput(input));
+        employeeSnapshotCache.added(employee);
+        return employee;
     }
 
-    @CacheEvict(value = "employees", allEntries = true)
     public String deleteEmployeeById(String id) {
         log.info("Deleting employee by id: {}", id);
 
-        // Step 1: Fetch employee by id to get the name
-        Employee employee = employeeApiClient.getEmployeeById(id);
+        // Step 1: Resolve the employee's name, from the cached snapshot when possible
+        Employee employee = findEmployeeById(id);
         String employeeName = employee.getName();
 
         // Step 2: Delete employee by name
         Boolean deleted = employeeApiClient.deleteEmployeeByName(employeeName);
+        return deleted(id, employee, deleted);
+    }
+
+    /**
+     * @return the cached snapshot if it can be served without waiting on the mock API, for responses that are
+     *     rendered from it directly with {@link #highestSalary} and {@link #topEarnerNames}
+     */
+    public Optional<EmployeeSnapshot> peekSnapshot() {
+        return Optional.ofNullable(employeeSnapshotCache.peek());
+    }
+
+    /*
+     * Asynchronous variants for AsyncEmployeeController. Reads served from the cached snapshot complete immediately;
+     * anything that needs the mock API completes on the client's threads, never blocking the caller.
+     */
+
+    public CompletableFuture<List<Employee>> getAllEmployeesAsync() {
+        log.info("Fetching all employees (cached snapshot)");
+        return employeeSnapshotCache.currentAsync().thenApply(EmployeeSnapshot::getEmployees);
+    }
+
+    public CompletableFuture<List<Employee>> searchEmployeesByNameAsync(String searchString) {
+        log.info("Searching employees by name: {}", searchString);
+        return employeeSnapshotCache
+                .currentAsync()
+                .thenApply(snapshot -> snapshot.getNameIndex().search(searchString));
+    }
+
+    public CompletableFuture<Employee> getEmployeeByIdAsync(String id) {
+        log.info("Fetching employee by id: {}", id);
+        return findEmployeeByIdAsync(id);
+    }
+
+    public CompletableFuture<Integer> getHighestSalaryAsync() {
+        log.info("Fetching highest salary");
+        return employeeSnapshotCache.currentAsync().thenApply(EmployeeService::highestSalary);
+    }
+
+    public CompletableFuture<List<String>> getTopTenHighestEarningEmployeeNamesAsync() {
+        log.info("Fetching top 10 highest earning employee names");
+        return employeeSnapshotCache.currentAsync().thenApply(EmployeeService::topEarnerNames);
+    }
+
+    public CompletableFuture<Employee> createEmployeeAsync(EmployeeInput input) {
+        log.info("Creating employee: {}", input.getName());
+        return employeeApiClient.createEmployeeAsync(mockApiInput(input)).thenApply(employee -> {
+            employeeSnapshotCache.added(employee);
+            return employee;
+        });
+    }
+
+    public CompletableFuture<String> deleteEmployeeByIdAsync(String id) {
+        log.info("Deleting employee by id: {}", id);
+        return findEmployeeByIdAsync(id)
+                .thenCompose(employee -> employeeApiClient
+                        .deleteEmployeeByNameAsync(employee.getName())
+                        .thenApply(deleted -> deleted(id, employee, deleted)));
+    }
+
+    /**
+     * Creates each of {@code inputs} through the mock API, up to {@code api.bulk.max-in-flight} at a time and paced by
+     * the rate limiter, as described on {@link BulkPipeline}. Each item's result is passed to {@code results} as it
+     * finishes. The employees created are applied to the cached snapshot as one patch once the batch is done.
+     *
+     * @return the employees created
+     */
+    public CompletableFuture<List<Employee>> createEmployees(
+            List<EmployeeInput> inputs, Consumer<BulkCreateResult> results) {
+        log.info("Creating {} employees in bulk", inputs.size());
+        // Only touched by the listener, which the pipeline calls one at a time.
+        List<Employee> created = new ArrayList<>();
+        return new BulkPipeline<Employee>(
+                        inputs.size(),
+                        bulkMaxInFlight,
+                        bulkTimeout,
+                        bulkRequeueDelay,
+                        index -> employeeApiClient.createEmployeeAsync(mockApiInput(inputs.get(index))),
+                        (index, employee, failure) -> {
+                            if (failure == null) {
+                                created.add(employee);
+                                results.accept(BulkCreateResult.created(index, employee));
+                            } else {
+                                results.accept(BulkCreateResult.failed(index, failure.getMessage()));
+                            }
+                        })
+                .start()
+                .thenApply(ignored -> {
+                    List<Employee> employees = List.copyOf(created);
+                    employeeSnapshotCache.addedAll(employees);
+                    log.info("Bulk created {} of {} employees", employees.size(), inputs.size());
+                    return employees;
+                });
+    }
+
+    /**
+     * Deletes each of {@code ids}, resolving them to names from one snapshot so a delete costs only the mock API's
+     * delete by name. Ids the snapshot does not have are looked up in the mock API first, as a single delete would be.
+     * Deletes run up to {@code api.bulk.max-in-flight} at a time and paced by the rate limiter, as described on
+     * {@link BulkPipeline}, and each id's outcome is passed to {@code results} as it finishes. Repeated ids are deleted
+     * once. The deletes are applied to the cached snapshot as one patch once the batch is done.
+     *
+     * @return the employees deleted
+     */
+    public CompletableFuture<List<Employee>> deleteEmployeesById(
+            List<String> ids, Consumer<BulkDeleteResult> results) {
+        List<String> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        log.info("Deleting {} employees in bulk", distinctIds.size());
+        return employeeSnapshotCache
+                .currentAsync()
+                .handle((snapshot, failure) -> {
+                    if (failure != null) {
+                        log.warn(
+                                "No employee snapshot for bulk delete, looking ids up one by one: {}",
+                                failure.getMessage());
+                    }
+                    return snapshot;
+                })
+                .thenCompose(snapshot -> {
+                    // Only touched by the listener, which the pipeline calls one at a time.
+                    List<Employee> deleted = new ArrayList<>();
+                    return new BulkPipeline<Employee>(
+                                    distinctIds.size(),
+                                    bulkMaxInFlight,
+                                    bulkTimeout,
+                                    bulkRequeueDelay,
+                                    index -> deleteResolved(distinctIds.get(index), snapshot),
+                                    (index, employee, failure) -> {
+                                        String id = distinctIds.get(index);
+                                        if (failure == null) {
+                                            deleted.add(employee);
+                                            results.accept(BulkDeleteResult.deleted(id, employee.getName()));
+                                        } else if (failure instanceof EmployeeNotFoundException) {
+                                            results.accept(BulkDeleteResult.notFound(id, failure.getMessage()));
+                                        } else {
+                                            results.accept(BulkDeleteResult.failed(id, failure.getMessage()));
+                                        }
+                                    })
+                            .start()
+                            .thenApply(ignored -> {
+                                List<Employee> employees = List.copyOf(deleted);
+                                employeeSnapshotCache.removedAll(employees);
+                                log.info("Bulk deleted {} of {} employees", employees.size(), distinctIds.size());
+                                return employees;
+                            });
+                });
+    }
+
+    /**
+     * Deletes the employee with {@code id} by name, taking the name from {@code snapshot} when it has the id.
+     */
+    private CompletableFuture<Employee> deleteResolved(String id, EmployeeSnapshot snapshot) {
+        Optional<Employee> resolved = snapshot == null ? Optional.empty() : parseId(id).flatMap(snapshot::findById);
+        CompletableFuture<Employee> employee = resolved.map(CompletableFuture::completedFuture)
+                .orElseGet(() -> employeeApiClient.getEmployeeByIdAsync(id));
+        return employee.thenCompose(found -> employeeApiClient
+                .deleteEmployeeByNameAsync(found.getName())
+                .thenApply(deleted -> {
+                    if (!Boolean.TRUE.equals(deleted)) {
+                        throw new EmployeeApiException("Failed to delete employee with id: " + id);
+                    }
+                    return found;
+                }));
+    }
 
+    private String deleted(String id, Employee employee, Boolean deleted) {
         if (Boolean.TRUE.equals(deleted)) {
-            log.info("Successfully deleted employee: {}", employeeName);
-            return employeeName;
+            employeeSnapshotCache.removed(employee);
+            log.info("Successfully deleted employee: {}", employee.getName());
+            return employee.getName();
         } else {
             throw new RuntimeException("Failed to delete employee with id: " + id);
         }
     }
 
+    private Employee findEmployeeById(String id) {
+        Optional<Employee> cached = parseId(id).flatMap(employeeSnapshotCache::lookup);
+        if (cached.isPresent()) {
+            log.debug("Resolved employee {} from cached snapshot", id);
+            return cached.get();
+        }
+        try {
+            return employeeApiClient.getEmployeeById(id);
+        } catch (UpstreamUnavailableException e) {
+            return lastKnownEmployee(id, e);
+        }
+    }
+
+    private CompletableFuture<Employee> findEmployeeByIdAsync(String id) {
+        Optional<Employee> cached = parseId(id).flatMap(employeeSnapshotCache::lookup);
+        if (cached.isPresent()) {
+            log.debug("Resolved employee {} from cached snapshot", id);
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        return employeeApiClient.getEmployeeByIdAsync(id).exceptionally(failure -> {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause()
+                    : failure;
+            if (cause instanceof UpstreamUnavailableException e) {
+                return lastKnownEmployee(id, e);
+            }
+            throw failure instanceof CompletionException completion ? completion : new CompletionException(failure);
+        });
+    }
+
+    /**
+     * Falls back to the last published snapshot, however old, while the mock API is refusing calls.
+     */
+    private Employee lastKnownEmployee(String id, UpstreamUnavailableException e) {
+        Employee employee = parseId(id).flatMap(employeeSnapshotCache::lookupLastKnown).orElseThrow(() -> e);
+        log.warn("{}; resolved employee {} from the last known snapshot", e.getMessage(), id);
+        return employee;
+    }
+
+    /**
+     * @return the highest salary in {@code snapshot}, or 0 if it is empty
+     */
+    public static Integer highestSalary(EmployeeSnapshot snapshot) {
+        return snapshot.getSalaryIndex().highestSalary().orElse(0);
+    }
+
+    /**
+     * @return the names of the ten highest earners in {@code snapshot}, highest first
+     */
+    public static List<String> topEarnerNames(EmployeeSnapshot snapshot) {
+        List<Employee> topEarners = snapshot.getSalaryIndex().top(TOP_EARNERS_LIMIT);
+        return topEarners.stream().map(Employee::getName).collect(Collectors.toList());
+    }
+
+    /**
+     * Copies the fields the mock API accepts into a new input.
+     */
+    private static EmployeeInput mockApiInput(EmployeeInput input) {
+        return EmployeeInput.builder()
+                .name(input.getName())
+                .salary(input.getSalary())
+                .age(input.getAge())
+                .title(input.getTitle())
+                .build();
+    }
+
+    private static Optional<UUID> parseId(String id) {
+        try {
+            return Optional.of(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            // Let the mock API reject malformed ids as it always has.
+            return Optional.empty();
+        }
+    }
+
     private String generateEmail(String name) {
         // Parse first and last name from full name
         String[] nameParts = name.trim().split("\\s+");
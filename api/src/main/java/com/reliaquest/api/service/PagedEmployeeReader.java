@@ -0,0 +1,85 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.resilience.RequestPriority;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads the mock API's paginated employee list with several pages in flight.
+ *
+ * <p>The first page is read on its own and streamed straight to the sink. Its {@code end_cursor} tells how far the
+ * list goes. Cursors are insertion sequences, so the rest of the list is the cursor range after that page, which is
+ * split into {@code partitions} contiguous ranges read concurrently, each page by page. The last range is left open so
+ * that employees created during the read are included. Later ranges are buffered until every range is read, then
+ * passed to the sink in order, so the sink sees the list in the mock API's order, one employee at a time.
+ *
+ * <p>Deletes made while the ranges are read can leave gaps in the cursor range, so partitions can differ in size.
+ * They cannot cause an employee to be skipped or read twice.
+ */
+@Slf4j
+final class PagedEmployeeReader {
+
+    private final EmployeeApiClient client;
+    private final RequestPriority priority;
+    private final int pageSize;
+    private final int partitions;
+
+    PagedEmployeeReader(EmployeeApiClient client, RequestPriority priority, int pageSize, int partitions) {
+        this.client = client;
+        this.priority = priority;
+        this.pageSize = pageSize;
+        this.partitions = Math.max(1, partitions);
+    }
+
+    /**
+     * @return the number of employees passed to {@code sink}
+     */
+    CompletableFuture<Integer> read(Consumer<Employee> sink) {
+        return client.streamEmployeePageAsync(priority, null, null, pageSize, sink)
+                .thenCompose(first -> {
+                    if (first.nextCursor() == null) {
+                        return CompletableFuture.completedFuture(first.count());
+                    }
+                    long end = first.endCursor() == null ? first.nextCursor() : first.endCursor();
+                    return readRest(first.nextCursor(), end, sink).thenApply(rest -> first.count() + rest);
+                });
+    }
+
+    private CompletableFuture<Integer> readRest(long start, long end, Consumer<Employee> sink) {
+        long span = Math.max(end - start, 1);
+        int ranges = (int) Math.min(partitions, span);
+        long width = (span + ranges - 1) / ranges;
+        log.debug("Reading employee cursors {} to {} in {} ranges", start, end, ranges);
+
+        List<List<Employee>> buffers = new ArrayList<>(ranges);
+        CompletableFuture<?>[] reads = new CompletableFuture<?>[ranges];
+        for (int i = 0; i < ranges; i++) {
+            List<Employee> buffer = new ArrayList<>();
+            buffers.add(buffer);
+            Long until = i == ranges - 1 ? null : start + (i + 1) * width;
+            reads[i] = readRange(start + i * width, until, buffer);
+        }
+        return CompletableFuture.allOf(reads).thenApply(ignored -> {
+            int count = 0;
+            for (List<Employee> buffer : buffers) {
+                buffer.forEach(sink);
+                count += buffer.size();
+            }
+            return count;
+        });
+    }
+
+    /**
+     * Reads the range after {@code after} up to {@code until} page by page into {@code buffer}.
+     */
+    private CompletableFuture<Void> readRange(long after, Long until, List<Employee> buffer) {
+        return client.streamEmployeePageAsync(priority, after, until, pageSize, buffer::add)
+                .thenCompose(page -> page.nextCursor() == null
+                        ? CompletableFuture.completedFuture(null)
+                        : readRange(page.nextCursor(), until, buffer));
+    }
+}
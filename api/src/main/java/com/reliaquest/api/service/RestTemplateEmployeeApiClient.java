@@ -0,0 +1,166 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.RateLimitException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.resilience.RequestPriority;
+import com.reliaquest.api.resilience.RetryExecutor;
+import com.reliaquest.api.resilience.UpstreamOperation;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mock.api.client.type", havingValue = "rest-template", matchIfMissing = true)
+public class RestTemplateEmployeeApiClient implements EmployeeApiClient {
+
+    private final RestTemplate restTemplate;
+    private final RetryExecutor retryExecutor;
+    private final EmployeeListParser employeeListParser;
+
+    @Value("${mock.api.base-url}")
+    private String baseUrl;
+
+    @Override
+    public CompletableFuture<Integer> streamAllEmployeesAsync(RequestPriority priority, Consumer<Employee> sink) {
+        log.info("Fetching all employees from mock API");
+        return executeWithRetry(UpstreamOperation.GET_ALL, priority, () -> {
+            Integer count = restTemplate.execute(
+                    baseUrl,
+                    HttpMethod.GET,
+                    request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                    response -> employeeListParser.parse(response.getBody(), sink));
+            log.info("Successfully fetched {} employees", count);
+            return count;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Page> streamEmployeePageAsync(
+            RequestPriority priority, Long after, Long until, int limit, Consumer<Employee> sink) {
+        log.debug("Fetching employee page after {} until {} from mock API", after, until);
+        return executeWithRetry(UpstreamOperation.GET_PAGE, priority, () -> restTemplate.execute(
+                UriComponentsBuilder.fromHttpUrl(baseUrl)
+                        .path("/page")
+                        .queryParamIfPresent("after", Optional.ofNullable(after))
+                        .queryParamIfPresent("until", Optional.ofNullable(until))
+                        .queryParam("limit", limit)
+                        .build()
+                        .toUri(),
+                HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> employeeListParser.parsePage(response.getBody(), sink)));
+    }
+
+    @Override
+    public CompletableFuture<Employee> getEmployeeByIdAsync(String id) {
+        log.info("Fetching employee by id: {}", id);
+        return executeWithRetry(UpstreamOperation.GET_BY_ID, RequestPriority.HIGH, () -> {
+            try {
+                ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
+                        baseUrl + "/" + id,
+                        HttpMethod.GET,
+                        null,
+                        new ParameterizedTypeReference<ApiResponse<Employee>>() {});
+
+                ApiResponse<Employee> apiResponse = response.getBody();
+                if (apiResponse != null && apiResponse.getData() != null) {
+                    log.info(
+                            "Successfully fetched employee: {}",
+                            apiResponse.getData().getName());
+                    return apiResponse.getData();
+                }
+                throw new EmployeeNotFoundException("Employee with id " + id + " not found");
+            } catch (HttpClientErrorException.NotFound e) {
+                log.warn("Employee not found with id: {}", id);
+                throw new EmployeeNotFoundException("Employee with id " + id + " not found");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Employee> createEmployeeAsync(EmployeeInput input) {
+        log.info("Creating employee: {}", input.getName());
+        return executeWithRetry(UpstreamOperation.CREATE, RequestPriority.HIGH, () -> {
+            HttpEntity<EmployeeInput> request = new HttpEntity<>(input);
+            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
+                    baseUrl, HttpMethod.POST, request, new ParameterizedTypeReference<ApiResponse<Employee>>() {});
+
+            ApiResponse<Employee> apiResponse = response.getBody();
+            if (apiResponse != null && apiResponse.getData() != null) {
+                log.info(
+                        "Successfully created employee: {}",
+                        apiResponse.getData().getName());
+                return apiResponse.getData();
+            }
+            throw new EmployeeApiException("Failed to create employee");
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteEmployeeByNameAsync(String name) {
+        log.info("Deleting employee by name: {}", name);
+        return executeWithRetry(UpstreamOperation.DELETE, RequestPriority.HIGH, () -> {
+            // Mock API expects DELETE with body containing name
+            DeleteRequest deleteRequest = new DeleteRequest(name);
+            HttpEntity<DeleteRequest> request = new HttpEntity<>(deleteRequest);
+
+            ResponseEntity<ApiResponse<Boolean>> response = restTemplate.exchange(
+                    baseUrl, HttpMethod.DELETE, request, new ParameterizedTypeReference<ApiResponse<Boolean>>() {});
+
+            ApiResponse<Boolean> apiResponse = response.getBody();
+            if (apiResponse != null && apiResponse.getData() != null) {
+                log.info("Successfully deleted employee: {}", name);
+                return apiResponse.getData();
+            }
+            throw new EmployeeApiException("Failed to delete employee");
+        });
+    }
+
+    /**
+     * Submits {@code apiCall} to the {@link RetryExecutor}, which retries 429s on a timer instead of sleeping on the
+     * calling thread.
+     */
+    private <T> CompletableFuture<T> executeWithRetry(
+            UpstreamOperation operation, RequestPriority priority, ApiCall<T> apiCall) {
+        return retryExecutor.execute(operation, priority, () -> {
+            try {
+                return apiCall.execute();
+            } catch (HttpClientErrorException e) {
+                if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                    throw new RateLimitException("Rate limit hit: " + e.getMessage(), e);
+                }
+                throw new EmployeeApiException("API call failed: " + e.getMessage(), e);
+            } catch (EmployeeNotFoundException | EmployeeApiException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new EmployeeApiException("Unexpected error calling API: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface ApiCall<T> {
+        T execute();
+    }
+}
@@ -0,0 +1,175 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.RateLimitException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.resilience.RequestPriority;
+import com.reliaquest.api.resilience.RetryExecutor;
+import com.reliaquest.api.resilience.UpstreamOperation;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link EmployeeApiClient} on Reactor Netty. Exchanges never block, so calls in flight are bounded by the connection
+ * pool rather than by {@code mock.api.client.threads}, and are completed on the event loop.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mock.api.client.type", havingValue = "web-client")
+public class WebClientEmployeeApiClient implements EmployeeApiClient {
+
+    private final WebClient upstreamWebClient;
+    private final RetryExecutor retryExecutor;
+    private final EmployeeListParser employeeListParser;
+
+    @Override
+    public CompletableFuture<Integer> streamAllEmployeesAsync(RequestPriority priority, Consumer<Employee> sink) {
+        log.info("Fetching all employees from mock API");
+        return executeWithRetry(UpstreamOperation.GET_ALL, priority, () -> {
+            EmployeeListParser.Feed feed = employeeListParser.feed(sink);
+            return feedBody(upstreamWebClient.get().retrieve(), feed)
+                    .then(Mono.fromCallable(feed::finish))
+                    .doOnNext(count -> log.info("Successfully fetched {} employees", count));
+        });
+    }
+
+    @Override
+    public CompletableFuture<Page> streamEmployeePageAsync(
+            RequestPriority priority, Long after, Long until, int limit, Consumer<Employee> sink) {
+        log.debug("Fetching employee page after {} until {} from mock API", after, until);
+        return executeWithRetry(UpstreamOperation.GET_PAGE, priority, () -> {
+            EmployeeListParser.Feed feed = employeeListParser.feed(sink);
+            WebClient.ResponseSpec response = upstreamWebClient
+                    .get()
+                    .uri(uri -> uri.path("/page")
+                            .queryParamIfPresent("after", Optional.ofNullable(after))
+                            .queryParamIfPresent("until", Optional.ofNullable(until))
+                            .queryParam("limit", limit)
+                            .build())
+                    .retrieve();
+            return feedBody(response, feed)
+                    .then(Mono.fromCallable(() -> {
+                        feed.finish();
+                        return feed.page();
+                    }));
+        });
+    }
+
+    @Override
+    public CompletableFuture<Employee> getEmployeeByIdAsync(String id) {
+        log.info("Fetching employee by id: {}", id);
+        return executeWithRetry(UpstreamOperation.GET_BY_ID, RequestPriority.HIGH, () -> upstreamWebClient
+                .get()
+                .uri("/{id}", id)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<Employee>>() {})
+                .<Employee>handle((apiResponse, sink) -> {
+                    if (apiResponse.getData() != null) {
+                        log.info(
+                                "Successfully fetched employee: {}",
+                                apiResponse.getData().getName());
+                        sink.next(apiResponse.getData());
+                    }
+                })
+                .onErrorMap(WebClientResponseException.NotFound.class, e -> {
+                    log.warn("Employee not found with id: {}", id);
+                    return new EmployeeNotFoundException("Employee with id " + id + " not found");
+                })
+                .switchIfEmpty(
+                        Mono.error(() -> new EmployeeNotFoundException("Employee with id " + id + " not found"))));
+    }
+
+    @Override
+    public CompletableFuture<Employee> createEmployeeAsync(EmployeeInput input) {
+        log.info("Creating employee: {}", input.getName());
+        return executeWithRetry(UpstreamOperation.CREATE, RequestPriority.HIGH, () -> upstreamWebClient
+                .post()
+                .bodyValue(input)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<Employee>>() {})
+                .<Employee>handle((apiResponse, sink) -> {
+                    if (apiResponse.getData() != null) {
+                        log.info(
+                                "Successfully created employee: {}",
+                                apiResponse.getData().getName());
+                        sink.next(apiResponse.getData());
+                    }
+                })
+                .switchIfEmpty(Mono.error(() -> new EmployeeApiException("Failed to create employee"))));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteEmployeeByNameAsync(String name) {
+        log.info("Deleting employee by name: {}", name);
+        return executeWithRetry(UpstreamOperation.DELETE, RequestPriority.HIGH, () -> upstreamWebClient
+                // Mock API expects DELETE with body containing name
+                .method(HttpMethod.DELETE)
+                .bodyValue(new DeleteRequest(name))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<Boolean>>() {})
+                .<Boolean>handle((apiResponse, sink) -> {
+                    if (apiResponse.getData() != null) {
+                        log.info("Successfully deleted employee: {}", name);
+                        sink.next(apiResponse.getData());
+                    }
+                })
+                .switchIfEmpty(Mono.error(() -> new EmployeeApiException("Failed to delete employee"))));
+    }
+
+    /**
+     * Feeds the body of {@code response} to {@code feed} as it arrives, releasing each buffer once it is parsed.
+     */
+    private static Mono<Void> feedBody(WebClient.ResponseSpec response, EmployeeListParser.Feed feed) {
+        return response.bodyToFlux(DataBuffer.class)
+                .doOnNext(buffer -> {
+                    try (DataBuffer.ByteBufferIterator buffers = buffer.readableByteBuffers()) {
+                        buffers.forEachRemaining(feed::accept);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                })
+                .then();
+    }
+
+    /**
+     * Submits {@code apiCall} to the {@link RetryExecutor} with the same error mapping as
+     * {@link RestTemplateEmployeeApiClient}. The exchange is only subscribed to when the executor starts an attempt.
+     */
+    private <T> CompletableFuture<T> executeWithRetry(
+            UpstreamOperation operation, RequestPriority priority, ApiCall<T> apiCall) {
+        return retryExecutor.executeAsync(operation, priority, () -> apiCall.execute()
+                .onErrorMap(e -> !(e instanceof EmployeeNotFoundException || e instanceof EmployeeApiException), e -> {
+                    if (e instanceof WebClientResponseException response) {
+                        if (response.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                            return new RateLimitException("Rate limit hit: " + e.getMessage(), e);
+                        }
+                        return new EmployeeApiException("API call failed: " + e.getMessage(), e);
+                    }
+                    return new EmployeeApiException("Unexpected error calling API: " + e.getMessage(), e);
+                })
+                .toFuture());
+    }
+
+    @FunctionalInterface
+    private interface ApiCall<T> {
+        Mono<T> execute();
+    }
+}
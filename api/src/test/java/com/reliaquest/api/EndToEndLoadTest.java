@@ -0,0 +1,417 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures the api end to end against the real mock server, both started in-process on random ports.
+ *
+ * <p>Load follows an open model: requests are sent on a fixed schedule of {@code load.rps} per second whether or not
+ * earlier ones have answered, and each latency is measured from the time the request was due rather than the time it
+ * was sent, so a stalled server shows up as latency instead of as fewer requests. Each request picks an endpoint at
+ * random from {@code load.mix}. After {@code load.warmup} of unrecorded traffic, {@code load.duration} is recorded and
+ * p50/p99/p999 latency and the error rate per endpoint are logged and written to {@code load.report-dir}.
+ *
+ * <p>Settings are system properties, which {@code ./gradlew api:loadTest} forwards from {@code -Pload.*}, e.g.
+ * {@code ./gradlew api:loadTest -Pload.rps=500 -Pload.mix=byId=80,search=20}. The mock server's rate limit is off
+ * unless {@code load.upstream-rate-limit=true}.
+ */
+@Tag("load")
+class EndToEndLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EndToEndLoadTest.class);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final int rps = Integer.getInteger("load.rps", 200);
+    private final Duration warmup = Duration.parse("PT" + System.getProperty("load.warmup", "5s"));
+    private final Duration duration = Duration.parse("PT" + System.getProperty("load.duration", "20s"));
+    private final Map<Endpoint, Integer> mix =
+            parseMix(System.getProperty("load.mix", "all=20,byId=40,search=20,highestSalary=10,topTen=10"));
+    private final int employees = Integer.getInteger("load.employees", 500);
+    private final boolean upstreamRateLimit = Boolean.getBoolean("load.upstream-rate-limit");
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+    private final Path reportDir = Path.of(System.getProperty("load.report-dir", "build/reports/load"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+
+    private List<String> ids;
+    private List<String> names;
+
+    @Test
+    void testEndToEndLatencyUnderOpenLoad() throws Exception {
+        try (ConfigurableApplicationContext server = InProcessMockServer.start(
+                        "mock.employees.max=" + employees, "mock.rate-limit.enabled=" + upstreamRateLimit);
+                ConfigurableApplicationContext api = new SpringApplicationBuilder(ApiApplication.class)
+                        .properties(
+                                "server.port=0",
+                                "mock.api.base-url=http://localhost:" + port(server) + "/api/v1/employee",
+                                "mock.api.rate-limit.enabled=" + upstreamRateLimit,
+                                "logging.level.com.reliaquest=WARN")
+                        .run()) {
+            String baseUrl = "http://localhost:" + port(api);
+            loadDirectory(baseUrl);
+
+            run(baseUrl, warmup, new EnumMap<>(Endpoint.class));
+            Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+            run(baseUrl, duration, recorders);
+
+            Map<String, Object> report = report(recorders);
+            Files.createDirectories(reportDir);
+            objectMapper
+                    .writerWithDefaultPrettyPrinter()
+                    .writeValue(reportDir.resolve("end-to-end.json").toFile(), report);
+
+            Recorder total = new Recorder();
+            recorders.values().forEach(total::addAll);
+            assertTrue(total.count() > 0, "no requests completed");
+            assertTrue(
+                    total.errorRate() <= maxErrorRate,
+                    "error rate " + total.errorRate() + " above " + maxErrorRate + ", see " + reportDir);
+        }
+    }
+
+    /**
+     * Sends requests at the target rate for {@code length}, then waits for the stragglers.
+     */
+    private void run(String baseUrl, Duration length, Map<Endpoint, Recorder> recorders) throws Exception {
+        for (Endpoint endpoint : mix.keySet()) {
+            recorders.putIfAbsent(endpoint, new Recorder());
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        long requests = length.toNanos() / intervalNanos;
+        long start = System.nanoTime();
+
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        for (long i = 0; i < requests; i++) {
+            long due = start + i * intervalNanos;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = pick(random.nextInt(totalWeight));
+            HttpRequest request = endpoint.request(baseUrl, this, random);
+            Endpoint recordAs =
+                    endpoint == Endpoint.DELETE && request.method().equals("GET") ? Endpoint.BY_ID : endpoint;
+            Recorder recorder = recorders.computeIfAbsent(recordAs, ignored -> new Recorder());
+            inFlight.add(httpClient
+                    .sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, failure) -> {
+                        boolean ok = failure == null && response.statusCode() < 400;
+                        recorder.record(System.nanoTime() - due, ok);
+                        if (ok && recordAs == Endpoint.CREATE) {
+                            createdId(response.body());
+                        }
+                    }));
+            if (i % 1024 == 0) {
+                inFlight.removeIf(CompletableFuture::isDone);
+            }
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                .exceptionally(ignored -> null)
+                .get(REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS);
+    }
+
+    private Endpoint pick(int roll) {
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty load.mix");
+    }
+
+    private void loadDirectory(String baseUrl) throws Exception {
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/")).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), "initial employee list: " + response.body());
+        JsonNode list = objectMapper.readTree(response.body());
+        ids = new ArrayList<>();
+        names = new ArrayList<>();
+        for (JsonNode employee : list) {
+            ids.add(employee.get("id").asText());
+            names.add(employee.get("employee_name").asText());
+        }
+        assertFalse(ids.isEmpty(), "mock server returned no employees");
+    }
+
+    private void createdId(String body) {
+        try {
+            createdIds.add(objectMapper.readTree(body).get("id").asText());
+        } catch (Exception e) {
+            // Counted as a success already; the id is only needed for later deletes.
+        }
+    }
+
+    private Map<String, Object> report(Map<Endpoint, Recorder> recorders) {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        Recorder total = new Recorder();
+        recorders.forEach((endpoint, recorder) -> {
+            total.addAll(recorder);
+            endpoints.put(endpoint.key, summary(endpoint.key, recorder));
+        });
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("rps", rps);
+        report.put("durationSeconds", duration.toSeconds());
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        mix.forEach((endpoint, weight) -> weights.put(endpoint.key, weight));
+        report.put("mix", weights);
+        report.put("upstreamRateLimit", upstreamRateLimit);
+        report.put("total", summary("total", total));
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private static Map<String, Object> summary(String name, Recorder recorder) {
+        long[] latencies = recorder.sorted();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", recorder.count());
+        summary.put("errors", recorder.errors());
+        summary.put("errorRate", recorder.errorRate());
+        summary.put("p50Ms", percentileMillis(latencies, 0.50));
+        summary.put("p99Ms", percentileMillis(latencies, 0.99));
+        summary.put("p999Ms", percentileMillis(latencies, 0.999));
+        summary.put("maxMs", percentileMillis(latencies, 1.0));
+        log.info(
+                "{}: {} requests, {} errors, p50 {} ms, p99 {} ms, p999 {} ms, max {} ms",
+                name,
+                recorder.count(),
+                recorder.errors(),
+                summary.get("p50Ms"),
+                summary.get("p99Ms"),
+                summary.get("p999Ms"),
+                summary.get("maxMs"));
+        return summary;
+    }
+
+    /**
+     * Nearest-rank percentile, so p999 of fewer than 1000 samples is the maximum.
+     */
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1e6;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            Endpoint endpoint = Arrays.stream(Endpoint.values())
+                    .filter(candidate -> candidate.key.equals(parts[0]))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown load.mix endpoint: " + parts[0]));
+            int weight = Integer.parseInt(parts[1]);
+            if (weight > 0) {
+                weights.put(endpoint, weight);
+            }
+        }
+        return weights;
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    private enum Endpoint {
+        ALL("all") {
+            @Override
+            HttpRequest request(String baseUrl, EndToEndLoadTest test, SplittableRandom random) {
+                return get(baseUrl + "/");
+            }
+        },
+        SEARCH("search") {
+            @Override
+            HttpRequest request(String baseUrl, EndToEndLoadTest test, SplittableRandom random) {
+                String name = test.names.get(random.nextInt(test.names.size()));
+                String fragment = name.substring(0, Math.min(4, name.length())).trim();
+                return get(baseUrl + "/search/"
+                        + URLEncoder.encode(fragment, StandardCharsets.UTF_8).replace("+", "%20"));
+            }
+        },
+        BY_ID("byId") {
+            @Override
+            HttpRequest request(String baseUrl, EndToEndLoadTest test, SplittableRandom random) {
+                return get(baseUrl + "/" + test.ids.get(random.nextInt(test.ids.size())));
+            }
+        },
+        HIGHEST_SALARY("highestSalary") {
+            @Override
+            HttpRequest request(String baseUrl, EndToEndLoadTest test, SplittableRandom random) {
+                return get(baseUrl + "/highestSalary");
+            }
+        },
+        TOP_TEN("topTen") {
+            @Override
+            HttpRequest request(String baseUrl, EndToEndLoadTest test, SplittableRandom random) {
+                return get(baseUrl + "/topTenHighestEarningEmployeeNames");
+            }
+        },
+        CREATE("create") {
+            @Override
+            HttpRequest request(String baseUrl, EndToEndLoadTest test, SplittableRandom random) {
+                String body = "{\"name\":\"Load Test " + random.nextInt(1_000_000)
+                        + "\",\"salary\":100000,\"age\":30,\"title\":\"Tester\"}";
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/"))
+                        .timeout(REQUEST_TIMEOUT)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                        .build();
+            }
+        },
+        /** Deletes an employee the run created, so the directory keeps its size; a lookup when there is none yet. */
+        DELETE("delete") {
+            @Override
+            HttpRequest request(String baseUrl, EndToEndLoadTest test, SplittableRandom random) {
+                String id = test.createdIds.poll();
+                if (id == null) {
+                    return BY_ID.request(baseUrl, test, random);
+                }
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/" + id))
+                        .timeout(REQUEST_TIMEOUT)
+                        .DELETE()
+                        .build();
+            }
+        };
+
+        final String key;
+
+        Endpoint(String key) {
+            this.key = key;
+        }
+
+        abstract HttpRequest request(String baseUrl, EndToEndLoadTest test, SplittableRandom random);
+
+        private static HttpRequest get(String url) {
+            return HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT).build();
+        }
+    }
+
+    /**
+     * Latencies and errors for one endpoint. Written from the HTTP client's threads.
+     */
+    private static final class Recorder {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        void record(long latencyNanos, boolean ok) {
+            lock.lock();
+            try {
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = latencyNanos;
+                if (!ok) {
+                    errors++;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void addAll(Recorder other) {
+            long[] otherLatencies;
+            int otherErrors;
+            other.lock.lock();
+            try {
+                otherLatencies = Arrays.copyOf(other.latencies, other.count);
+                otherErrors = other.errors;
+            } finally {
+                other.lock.unlock();
+            }
+            lock.lock();
+            try {
+                if (count + otherLatencies.length > latencies.length) {
+                    latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + otherLatencies.length));
+                }
+                System.arraycopy(otherLatencies, 0, latencies, count, otherLatencies.length);
+                count += otherLatencies.length;
+                errors += otherErrors;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long[] sorted() {
+            lock.lock();
+            try {
+                long[] sorted = Arrays.copyOf(latencies, count);
+                Arrays.sort(sorted);
+                return sorted;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int count() {
+            lock.lock();
+            try {
+                return count;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int errors() {
+            lock.lock();
+            try {
+                return errors;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        double errorRate() {
+            lock.lock();
+            try {
+                return count == 0 ? 0 : (double) errors / count;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api;
+
+import com.reliaquest.server.ServerApplication;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the mock server for the load tests, in a context of its own on a random port.
+ *
+ * <p>The api's {@code application.yml} shadows the server's on the test classpath, so the server is pointed at its own
+ * file through {@code spring.config.location}. {@code ./gradlew api:loadTest} passes its path as
+ * {@code load.server-config}; otherwise it is looked up relative to the api module.
+ */
+final class InProcessMockServer {
+
+    private static final Path CONFIG =
+            Path.of(System.getProperty("load.server-config", "../server/src/main/resources/application.yml"));
+
+    private InProcessMockServer() {}
+
+    /**
+     * @param properties settings that override the server's {@code application.yml}
+     */
+    static ConfigurableApplicationContext start(String... properties) {
+        List<String> defaults = new ArrayList<>(List.of(
+                "spring.config.location=file:" + CONFIG.toAbsolutePath().normalize(),
+                "server.port=0",
+                "logging.level.com.reliaquest=WARN"));
+        defaults.addAll(List.of(properties));
+        return new SpringApplicationBuilder(ServerApplication.class)
+                .properties(defaults.toArray(String[]::new))
+                .run();
+    }
+}
@@ -0,0 +1,122 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures how long the api takes from starting to its first 200 on {@code GET /}, with and without a persisted
+ * employee snapshot, against the real mock server started in-process.
+ *
+ * <p>Three starts are timed: cold, with no snapshot file; warm, from the file the cold run wrote on shutdown; and warm
+ * again after the mock server has been stopped, which a cold start could not answer at all. Each is reported as the
+ * time for the application context to start and the time from then to the first 200, logged and written to
+ * {@code load.report-dir}. The mock server holds {@code load.employees} employees, 10000 by default.
+ */
+@Tag("load")
+class WarmRestartLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmRestartLoadTest.class);
+
+    private static final Duration FIRST_OK_TIMEOUT = Duration.ofSeconds(30);
+
+    private final int employees = Integer.getInteger("load.employees", 10000);
+    private final Path reportDir = Path.of(System.getProperty("load.report-dir", "build/reports/load"));
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    @TempDir
+    private Path snapshotDir;
+
+    @Test
+    void testWarmRestartServesBeforeUpstream() throws Exception {
+        Path snapshotFile = snapshotDir.resolve("employee-snapshot.bin");
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("employees", employees);
+
+        ConfigurableApplicationContext server =
+                InProcessMockServer.start("mock.employees.max=" + employees, "mock.rate-limit.enabled=false");
+        String upstream = "http://localhost:" + port(server) + "/api/v1/employee";
+        try {
+            report.put("cold", timeStart(upstream, snapshotFile));
+            assertTrue(Files.isRegularFile(snapshotFile), "snapshot was not written on shutdown");
+            report.put("warm", timeStart(upstream, snapshotFile));
+        } finally {
+            server.close();
+        }
+        report.put("warmUpstreamDown", timeStart(upstream, snapshotFile));
+        report.put("snapshotBytes", Files.size(snapshotFile));
+
+        log.info("Warm restart: {}", report);
+        Files.createDirectories(reportDir);
+        new ObjectMapper()
+                .writerWithDefaultPrettyPrinter()
+                .writeValue(reportDir.resolve("warm-restart.json").toFile(), report);
+    }
+
+    /**
+     * Starts the api, waits for its first 200 on {@code GET /} and shuts it down again, which persists its snapshot.
+     */
+    private Map<String, Object> timeStart(String upstream, Path snapshotFile) throws Exception {
+        long started = System.nanoTime();
+        try (ConfigurableApplicationContext api = new SpringApplicationBuilder(ApiApplication.class)
+                        .properties(
+                                "server.port=0",
+                                "mock.api.base-url=" + upstream,
+                                "mock.api.rate-limit.enabled=false",
+                                "mock.api.cache.persistence.enabled=true",
+                                "mock.api.cache.persistence.file=" + snapshotFile,
+                                "logging.level.com.reliaquest=WARN")
+                        .run()) {
+            long contextStarted = System.nanoTime();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port(api) + "/"))
+                    .timeout(Duration.ofSeconds(10))
+                    .GET()
+                    .build();
+            long deadline = contextStarted + FIRST_OK_TIMEOUT.toNanos();
+            int attempts = 0;
+            while (true) {
+                attempts++;
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    break;
+                }
+                assertTrue(System.nanoTime() < deadline, "no 200 within " + FIRST_OK_TIMEOUT);
+                Thread.sleep(50);
+            }
+            long firstOk = System.nanoTime();
+
+            Map<String, Object> timings = new LinkedHashMap<>();
+            timings.put("contextStartMillis", millis(contextStarted - started));
+            timings.put("firstOkAfterStartMillis", millis(firstOk - contextStarted));
+            timings.put("startupToFirstOkMillis", millis(firstOk - started));
+            timings.put("requests", attempts);
+            return timings;
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
@@ -0,0 +1,347 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.exception.RateLimitException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.resilience.RequestPriority;
+import com.reliaquest.api.service.EmployeeApiClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.stubbing.Answer;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeSnapshotCacheTest {
+
+    @Mock
+    private EmployeeApiClient employeeApiClient;
+
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    @TempDir
+    private Path tempDir;
+
+    private final MutableClock clock = new MutableClock();
+
+    private final List<Employee> firstLoad = List.of(createEmployee("John Doe"));
+    private final List<Employee> secondLoad = List.of(createEmployee("John Doe"), createEmployee("Jane Smith"));
+
+    @BeforeEach
+    void setUp() {
+        employeeSnapshotCache = new EmployeeSnapshotCache(
+                employeeApiClient, new ConcurrentMapCacheManager(EmployeeSnapshotCache.CACHE_NAME), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeSnapshotCache.shutdown();
+    }
+
+    @Test
+    void testCurrent_LoadsOnceWhileFresh() {
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any())).thenAnswer(streaming(firstLoad));
+
+        EmployeeSnapshot first = employeeSnapshotCache.current();
+        EmployeeSnapshot second = employeeSnapshotCache.current();
+
+        assertSame(first, second);
+        verify(employeeApiClient, times(1)).streamAllEmployees(eq(RequestPriority.HIGH), any());
+    }
+
+    @Test
+    void testRefreshAhead_ServesStaleWhileReloading() {
+        configure(true, Duration.ZERO, Duration.ofMinutes(5));
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any())).thenAnswer(streaming(firstLoad));
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.LOW), any())).thenAnswer(streaming(secondLoad));
+
+        EmployeeSnapshot initial = employeeSnapshotCache.current();
+        EmployeeSnapshot stale = employeeSnapshotCache.current();
+
+        assertSame(initial, stale);
+        verify(employeeApiClient, timeout(5000)).streamAllEmployees(eq(RequestPriority.LOW), any());
+        waitForSize(2);
+    }
+
+    @Test
+    void testRefreshAhead_KeepsStaleSnapshotWhenReloadFails() {
+        configure(true, Duration.ZERO, Duration.ofMinutes(5));
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any())).thenAnswer(streaming(firstLoad));
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.LOW), any()))
+                .thenThrow(new RateLimitException("Shedding LOW priority request"));
+
+        EmployeeSnapshot initial = employeeSnapshotCache.current();
+        employeeSnapshotCache.current();
+        verify(employeeApiClient, timeout(5000)).streamAllEmployees(eq(RequestPriority.LOW), any());
+
+        assertEquals(initial.getEmployees(), employeeSnapshotCache.current().getEmployees());
+    }
+
+    @Test
+    void testMaxStale_LoadsSynchronouslyOnceExceeded() {
+        configure(false, Duration.ofMinutes(1), Duration.ofMinutes(2));
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(firstLoad))
+                .thenAnswer(streaming(secondLoad));
+
+        employeeSnapshotCache.current();
+        clock.advance(Duration.ofMinutes(3));
+
+        assertEquals(2, employeeSnapshotCache.current().size());
+        verify(employeeApiClient, times(2)).streamAllEmployees(eq(RequestPriority.HIGH), any());
+    }
+
+    @Test
+    void testPeek_ReturnsOnlySnapshotsServableWithoutLoading() {
+        configure(false, Duration.ofMinutes(1), Duration.ofMinutes(2));
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any())).thenAnswer(streaming(firstLoad));
+
+        assertNull(employeeSnapshotCache.peek());
+        EmployeeSnapshot loaded = employeeSnapshotCache.current();
+        assertSame(loaded, employeeSnapshotCache.peek());
+        clock.advance(Duration.ofMinutes(2));
+        assertSame(loaded, employeeSnapshotCache.peek());
+        clock.advance(Duration.ofMillis(1));
+
+        assertNull(employeeSnapshotCache.peek());
+        verify(employeeApiClient, times(1)).streamAllEmployees(eq(RequestPriority.HIGH), any());
+    }
+
+    @Test
+    void testUpstreamUnavailable_ServesLastKnownSnapshot() {
+        configure(false, Duration.ofMinutes(1), Duration.ofMinutes(2));
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(firstLoad))
+                .thenThrow(new UpstreamUnavailableException("Circuit breaker is open", Duration.ofSeconds(30)));
+        when(employeeApiClient.streamAllEmployeesAsync(eq(RequestPriority.HIGH), any()))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new UpstreamUnavailableException("Circuit breaker is open", Duration.ofSeconds(30))));
+
+        EmployeeSnapshot loaded = employeeSnapshotCache.current();
+        clock.advance(Duration.ofMinutes(3));
+
+        assertSame(loaded, employeeSnapshotCache.current());
+        assertSame(loaded, employeeSnapshotCache.currentAsync().join());
+        assertEquals(
+                firstLoad.get(0),
+                employeeSnapshotCache.lookupLastKnown(firstLoad.get(0).getId()).orElseThrow());
+    }
+
+    @Test
+    void testUpstreamUnavailable_FailsWithoutSnapshot() {
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenThrow(new UpstreamUnavailableException("Circuit breaker is open", Duration.ofSeconds(30)));
+
+        assertThrows(UpstreamUnavailableException.class, employeeSnapshotCache::current);
+    }
+
+    @Test
+    void testPersistence_RestartServesPersistedSnapshotAndReconciles() {
+        Path file = tempDir.resolve("employees.bin");
+        enablePersistence(employeeSnapshotCache, file);
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any())).thenAnswer(streaming(firstLoad));
+        employeeSnapshotCache.current();
+        Employee created = createEmployee("Jane Smith");
+        employeeSnapshotCache.added(created);
+        employeeSnapshotCache.shutdown();
+        assertTrue(Files.isRegularFile(file));
+
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.LOW), any()))
+                .thenThrow(new UpstreamUnavailableException("Circuit breaker is open", Duration.ofSeconds(30)));
+        employeeSnapshotCache = new EmployeeSnapshotCache(
+                employeeApiClient, new ConcurrentMapCacheManager(EmployeeSnapshotCache.CACHE_NAME), clock);
+        enablePersistence(employeeSnapshotCache, file);
+        employeeSnapshotCache.restore();
+
+        EmployeeSnapshot restored = employeeSnapshotCache.current();
+        assertEquals(2, restored.size());
+        assertEquals(created, restored.findById(created.getId()).orElseThrow());
+        verify(employeeApiClient, timeout(5000)).streamAllEmployees(eq(RequestPriority.LOW), any());
+        verify(employeeApiClient, times(1)).streamAllEmployees(eq(RequestPriority.HIGH), any());
+    }
+
+    @Test
+    void testPersistence_RestoredSnapshotKeepsItsLoadTime() throws Exception {
+        Path file = tempDir.resolve("employees.bin");
+        EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder();
+        firstLoad.forEach(builder);
+        SnapshotFile.write(builder.build(7, clock.instant().minus(Duration.ofDays(3))), file);
+        UpstreamUnavailableException unavailable =
+                new UpstreamUnavailableException("Circuit breaker is open", Duration.ofSeconds(30));
+        when(employeeApiClient.streamAllEmployees(any(), any())).thenThrow(unavailable);
+        enablePersistence(employeeSnapshotCache, file);
+
+        employeeSnapshotCache.restore();
+
+        // Three days old: past max-stale and lookup-max-age, so neither served as fresh nor used to resolve ids.
+        assertNull(employeeSnapshotCache.peek());
+        assertTrue(employeeSnapshotCache.lookup(firstLoad.get(0).getId()).isEmpty());
+        // Still the last known snapshot while the mock API is unavailable, at its real age.
+        EmployeeSnapshot restored = employeeSnapshotCache.current();
+        assertEquals(firstLoad, restored.getEmployees());
+        assertEquals(Duration.ofDays(3), restored.age(clock));
+        verify(employeeApiClient, timeout(5000)).streamAllEmployees(eq(RequestPriority.LOW), any());
+    }
+
+    @Test
+    void testPersistence_IgnoresCorruptFile() throws Exception {
+        Path file = tempDir.resolve("employees.bin");
+        Files.write(file, new byte[] {1, 2, 3});
+        enablePersistence(employeeSnapshotCache, file);
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any())).thenAnswer(streaming(firstLoad));
+
+        employeeSnapshotCache.restore();
+
+        assertEquals(1, employeeSnapshotCache.current().size());
+        verify(employeeApiClient, times(1)).streamAllEmployees(eq(RequestPriority.HIGH), any());
+    }
+
+    @Test
+    void testAdded_PublishesNewVersion() {
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any())).thenAnswer(streaming(firstLoad));
+        EmployeeSnapshot before = employeeSnapshotCache.current();
+
+        employeeSnapshotCache.added(createEmployee("Jane Smith"));
+        EmployeeSnapshot after = employeeSnapshotCache.current();
+
+        assertEquals(1, before.size());
+        assertEquals(2, after.size());
+        assertTrue(after.getVersion() > before.getVersion());
+        verify(employeeApiClient, times(1)).streamAllEmployees(eq(RequestPriority.HIGH), any());
+    }
+
+    @Test
+    void testRemoved_RemovesFirstEmployeeWithSameName() {
+        Employee first = createEmployee("John Doe");
+        Employee second = createEmployee("john doe");
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(List.of(first, second)));
+        employeeSnapshotCache.current();
+
+        employeeSnapshotCache.removed(second);
+
+        assertEquals(List.of(second), employeeSnapshotCache.current().getEmployees());
+    }
+
+    @Test
+    void testRemovedAll_RemovesFirstEmployeesWithEachNameInOnePatch() {
+        List<Employee> loaded =
+                List.of(createEmployee("John Doe"), createEmployee("Jane Smith"), createEmployee("john doe"));
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any())).thenAnswer(streaming(loaded));
+        EmployeeSnapshot before = employeeSnapshotCache.current();
+
+        employeeSnapshotCache.removedAll(List.of(createEmployee("JOHN DOE"), createEmployee("John Doe")));
+
+        EmployeeSnapshot after = employeeSnapshotCache.current();
+        assertEquals(List.of(loaded.get(1)), after.getEmployees());
+        assertEquals(before.getVersion() + 1, after.getVersion());
+        assertTrue(after.getNameIndex().search("john").isEmpty());
+    }
+
+    @Test
+    void testPatchDuringLoad_IsReplayedOntoLoadedSnapshot() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any())).thenAnswer(invocation -> {
+            loading.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return streaming(firstLoad).answer(invocation);
+        });
+
+        CompletableFuture<EmployeeSnapshot> load = CompletableFuture.supplyAsync(employeeSnapshotCache::current);
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        Employee created = createEmployee("Jane Smith");
+        employeeSnapshotCache.added(created);
+        release.countDown();
+
+        EmployeeSnapshot snapshot = load.get(5, TimeUnit.SECONDS);
+        assertEquals(2, snapshot.size());
+        assertTrue(snapshot.findById(created.getId()).isPresent());
+    }
+
+    private void configure(boolean refreshAheadEnabled, Duration refreshAfter, Duration maxStale) {
+        ReflectionTestUtils.setField(employeeSnapshotCache, "refreshAheadEnabled", refreshAheadEnabled);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "refreshAfter", refreshAfter);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "maxStale", maxStale);
+    }
+
+    private static void enablePersistence(EmployeeSnapshotCache cache, Path file) {
+        ReflectionTestUtils.setField(cache, "persistenceEnabled", true);
+        ReflectionTestUtils.setField(cache, "persistenceFile", file);
+    }
+
+    private void waitForSize(int size) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (employeeSnapshotCache.current().size() != size) {
+            assertTrue(System.nanoTime() < deadline, "snapshot was not refreshed within 5s");
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * A clock that only moves when a test advances it, so snapshot ages do not depend on how fast the test runs.
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static Answer<Integer> streaming(List<Employee> employees) {
+        return invocation -> {
+            Consumer<Employee> sink = invocation.getArgument(1);
+            employees.forEach(sink);
+            return employees.size();
+        };
+    }
+
+    private static Employee createEmployee(String name) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100000)
+                .age(30)
+                .title("Developer")
+                .email("employee@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentCallersShareOneLoad() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "value";
+            })));
+        }
+        waitUntil(() -> singleFlight.executions() + singleFlight.coalesced() == CALLERS);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, singleFlight.executions());
+        assertEquals(CALLERS - 1, singleFlight.coalesced());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void testWaitersReceiveLoaderException() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            await(release);
+            throw new IllegalStateException("upstream down");
+        }));
+        waitUntil(() -> singleFlight.inFlight() == 1);
+        Future<String> waiter = executor.submit(() -> singleFlight.execute("key", () -> "unused"));
+        waitUntil(() -> singleFlight.coalesced() == 1);
+        release.countDown();
+
+        Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception waiterFailure = assertThrows(Exception.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, leaderFailure.getCause());
+        assertInstanceOf(IllegalStateException.class, waiterFailure.getCause());
+    }
+
+    @Test
+    void testAsyncCallersShareOneLoad() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(singleFlight.executeAsync("key", () -> {
+                loads.incrementAndGet();
+                return upstream;
+            }));
+        }
+        // A blocking caller joins the same flight.
+        Future<String> blocking = executor.submit(() -> singleFlight.execute("key", () -> "unused"));
+        waitUntil(() -> singleFlight.coalesced() == CALLERS);
+        results.get(0).cancel(false);
+        upstream.complete("value");
+
+        for (CompletableFuture<String> result : results.subList(1, CALLERS)) {
+            assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals("value", blocking.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void testAsyncWaitersReceiveLoaderException() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> leader = singleFlight.executeAsync("key", () -> upstream);
+        CompletableFuture<String> waiter = singleFlight.executeAsync("key", () -> upstream);
+        upstream.completeExceptionally(new IllegalStateException("upstream down"));
+
+        assertInstanceOf(
+                IllegalStateException.class,
+                assertThrows(CompletionException.class, leader::join).getCause());
+        assertInstanceOf(
+                IllegalStateException.class,
+                assertThrows(CompletionException.class, waiter::join).getCause());
+    }
+
+    @Test
+    void testSequentialCallsLoadAgain() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, singleFlight.execute("key", loads::incrementAndGet));
+        assertEquals(2, singleFlight.execute("key", loads::incrementAndGet));
+        assertEquals(0, singleFlight.coalesced());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SnapshotFileTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void testWriteThenRead_RoundTripsEveryField() throws IOException {
+        List<Employee> employees = List.of(
+                Employee.builder()
+                        .id(UUID.randomUUID())
+                        .name("John Doe")
+                        .salary(100000)
+                        .age(30)
+                        .title("Developer")
+                        .email("john@company.com")
+                        .build(),
+                Employee.builder()
+                        .id(UUID.randomUUID())
+                        .name("Zoë Ñúñez 😀")
+                        .salary(0)
+                        .title("")
+                        .build(),
+                Employee.builder().build());
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(employees, 7);
+        Path file = tempDir.resolve("employees.bin");
+
+        SnapshotFile.write(snapshot, file);
+        List<Employee> read = new ArrayList<>();
+        SnapshotFile.Header header = SnapshotFile.read(file, read::add);
+
+        assertEquals(employees, read);
+        assertEquals(7, header.version());
+        assertEquals(3, header.count());
+        assertEquals(snapshot.getLoadedAt().toEpochMilli(), header.loadedAt().toEpochMilli());
+        assertFalse(Files.exists(tempDir.resolve("employees.bin.tmp")));
+    }
+
+    @Test
+    void testWrite_ReplacesExistingFile() throws IOException {
+        Path file = tempDir.resolve("employees.bin");
+        SnapshotFile.write(EmployeeSnapshot.of(List.of(Employee.builder().name("Old").build()), 1), file);
+
+        SnapshotFile.write(EmployeeSnapshot.of(List.of(), 2), file);
+
+        List<Employee> read = new ArrayList<>();
+        assertEquals(2, SnapshotFile.read(file, read::add).version());
+        assertTrue(read.isEmpty());
+    }
+
+    @Test
+    void testRead_RejectsCorruptFile() throws IOException {
+        Path file = tempDir.resolve("employees.bin");
+        SnapshotFile.write(EmployeeSnapshot.of(List.of(Employee.builder().name("John Doe").build()), 1), file);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file, bytes);
+
+        IOException e = assertThrows(IOException.class, () -> SnapshotFile.read(file, employee -> {}));
+        assertTrue(e.getMessage().contains("checksum"));
+    }
+
+    @Test
+    void testRead_RejectsOtherFiles() throws IOException {
+        Path file = tempDir.resolve("employees.json");
+        Files.writeString(file, "{\"data\": [], \"status\": \"Successfully processed request.\"}");
+
+        assertThrows(IOException.class, () -> SnapshotFile.read(file, employee -> {}));
+    }
+
+    @Test
+    void testUtf8Length_MatchesEncoder() {
+        for (String value : List.of("", "ascii", "é", "€", "😀", "a\uD83Db", "\uDE00", "Zoë Ñúñez 😀")) {
+            assertEquals(value.getBytes(StandardCharsets.UTF_8).length, SnapshotFile.utf8Length(value), value);
+        }
+    }
+}
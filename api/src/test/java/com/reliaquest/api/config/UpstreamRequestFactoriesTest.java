@@ -0,0 +1,81 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+class UpstreamRequestFactoriesTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private HttpServer upstream;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstream.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        upstream.start();
+        url = "http://localhost:" + upstream.getAddress().getPort() + "/";
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.stop(0);
+    }
+
+    @Test
+    void testApache_ReusesPooledConnection() throws Exception {
+        HttpComponentsClientHttpRequestFactory factory = UpstreamRequestFactories.apache(
+                4, TIMEOUT, TIMEOUT, Duration.ofSeconds(30), Duration.ofMinutes(5));
+        try {
+            assertSequentialRequestsShareOneConnection(factory);
+        } finally {
+            factory.destroy();
+        }
+    }
+
+    @Test
+    void testJdk_ReusesPooledConnection() {
+        assertSequentialRequestsShareOneConnection(UpstreamRequestFactories.jdk(false, TIMEOUT, TIMEOUT));
+    }
+
+    @Test
+    void testSimple_ServesRequests() {
+        RestTemplate restTemplate = new RestTemplate(UpstreamRequestFactories.simple(TIMEOUT, TIMEOUT));
+
+        assertEquals("ok", restTemplate.getForObject(url, String.class));
+    }
+
+    private void assertSequentialRequestsShareOneConnection(ClientHttpRequestFactory factory) {
+        RestTemplate restTemplate = new RestTemplate(factory);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("ok", restTemplate.getForObject(url, String.class));
+        }
+
+        assertEquals(1, clientPorts.size(), "client ports " + clientPorts);
+    }
+}
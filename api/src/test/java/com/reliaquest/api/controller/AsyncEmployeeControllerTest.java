@@ -0,0 +1,155 @@
+package com.reliaquest.api.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.RateLimitException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+@WebMvcTest(value = AsyncEmployeeController.class, properties = "api.async.enabled=true")
+class AsyncEmployeeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @Test
+    void testGetAllEmployees() throws Exception {
+        List<Employee> employees =
+                Arrays.asList(createEmployee("John Doe", 100000), createEmployee("Jane Smith", 150000));
+
+        when(employeeService.getAllEmployeesAsync()).thenReturn(CompletableFuture.completedFuture(employees));
+
+        performAsync(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].employee_name").value("John Doe"))
+                .andExpect(jsonPath("$[1].employee_name").value("Jane Smith"));
+    }
+
+    @Test
+    void testGetEmployeesByNameSearch() throws Exception {
+        when(employeeService.searchEmployeesByNameAsync("john"))
+                .thenReturn(CompletableFuture.completedFuture(List.of(createEmployee("John Doe", 100000))));
+
+        performAsync(get("/search/john"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].employee_name").value("John Doe"));
+    }
+
+    @Test
+    void testGetEmployeeById() throws Exception {
+        Employee employee = createEmployee("John Doe", 100000);
+
+        when(employeeService.getEmployeeByIdAsync(employee.getId().toString()))
+                .thenReturn(CompletableFuture.supplyAsync(() -> employee));
+
+        performAsync(get("/" + employee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employee_name").value("John Doe"))
+                .andExpect(jsonPath("$.employee_salary").value(100000));
+    }
+
+    @Test
+    void testGetEmployeeById_NotFound() throws Exception {
+        UUID employeeId = UUID.randomUUID();
+
+        when(employeeService.getEmployeeByIdAsync(employeeId.toString()))
+                .thenReturn(CompletableFuture.failedFuture(new EmployeeNotFoundException("Employee not found")));
+
+        performAsync(get("/" + employeeId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Employee not found"));
+    }
+
+    @Test
+    void testGetHighestSalary_RateLimited() throws Exception {
+        when(employeeService.getHighestSalaryAsync())
+                .thenReturn(CompletableFuture.failedFuture(new RateLimitException("Rate limit exceeded")));
+
+        performAsync(get("/highestSalary")).andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void testGetTopTenHighestEarningEmployeeNames() throws Exception {
+        when(employeeService.getTopTenHighestEarningEmployeeNamesAsync())
+                .thenReturn(CompletableFuture.completedFuture(List.of("Jane Smith", "John Doe")));
+
+        performAsync(get("/topTenHighestEarningEmployeeNames"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("Jane Smith"));
+    }
+
+    @Test
+    void testCreateEmployee() throws Exception {
+        EmployeeInput input = EmployeeInput.builder()
+                .name("New Employee")
+                .salary(80000)
+                .age(25)
+                .title("Junior Developer")
+                .build();
+
+        when(employeeService.createEmployeeAsync(any(EmployeeInput.class)))
+                .thenReturn(CompletableFuture.completedFuture(createEmployee("New Employee", 80000)));
+
+        performAsync(post("/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(input)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employee_name").value("New Employee"));
+    }
+
+    @Test
+    void testDeleteEmployeeById() throws Exception {
+        UUID employeeId = UUID.randomUUID();
+
+        when(employeeService.deleteEmployeeByIdAsync(employeeId.toString()))
+                .thenReturn(CompletableFuture.completedFuture("John Doe"));
+
+        performAsync(delete("/" + employeeId))
+                .andExpect(status().isOk())
+                .andExpect(content().string("John Doe"));
+    }
+
+    private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+        MvcResult result =
+                mockMvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private static Employee createEmployee(String name, int salary) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Developer")
+                .email("employee@company.com")
+                .build();
+    }
+}
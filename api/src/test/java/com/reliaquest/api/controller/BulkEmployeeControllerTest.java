@@ -0,0 +1,121 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.BulkCreateResult;
+import com.reliaquest.api.model.BulkDeleteResult;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(value = BulkEmployeeController.class, properties = "api.bulk.max-items=3")
+class BulkEmployeeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @Test
+    void testCreateEmployees_StreamsOneLinePerItem() throws Exception {
+        Employee employee = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("New Employee")
+                .salary(80000)
+                .age(25)
+                .title("Junior Developer")
+                .email("new.employee@company.com")
+                .build();
+        when(employeeService.createEmployees(anyList(), any())).thenAnswer(invocation -> {
+            Consumer<BulkCreateResult> results = invocation.getArgument(1);
+            results.accept(BulkCreateResult.created(0, employee));
+            results.accept(BulkCreateResult.failed(1, "API call failed: 400"));
+            return CompletableFuture.completedFuture(List.of(employee));
+        });
+
+        MvcResult result = mockMvc.perform(post("/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(input("New Employee"), input("")))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, result.getResponse().getContentType());
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(BulkCreateResult.created(0, employee), objectMapper.readValue(lines[0], BulkCreateResult.class));
+        assertEquals(
+                BulkCreateResult.failed(1, "API call failed: 400"),
+                objectMapper.readValue(lines[1], BulkCreateResult.class));
+    }
+
+    @Test
+    void testCreateEmployees_RejectsOversizedBatch() throws Exception {
+        List<EmployeeInput> inputs = List.of(input("A"), input("B"), input("C"), input("D"));
+
+        mockMvc.perform(post("/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputs)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Bulk requests accept at most 3 items, got 4"));
+
+        verify(employeeService, never()).createEmployees(anyList(), any());
+    }
+
+    @Test
+    void testDeleteEmployeesById_StreamsOneLinePerId() throws Exception {
+        String johnId = UUID.randomUUID().toString();
+        String unknownId = UUID.randomUUID().toString();
+        when(employeeService.deleteEmployeesById(anyList(), any())).thenAnswer(invocation -> {
+            Consumer<BulkDeleteResult> results = invocation.getArgument(1);
+            results.accept(BulkDeleteResult.deleted(johnId, "John Doe"));
+            results.accept(BulkDeleteResult.notFound(unknownId, "Employee with id " + unknownId + " not found"));
+            return CompletableFuture.completedFuture(List.of());
+        });
+
+        MvcResult result = mockMvc.perform(delete("/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(johnId, unknownId))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(
+                BulkDeleteResult.deleted(johnId, "John Doe"), objectMapper.readValue(lines[0], BulkDeleteResult.class));
+        assertEquals(BulkDeleteResult.NOT_FOUND, objectMapper.readValue(lines[1], BulkDeleteResult.class).getStatus());
+    }
+
+    private static EmployeeInput input(String name) {
+        return EmployeeInput.builder()
+                .name(name)
+                .salary(80000)
+                .age(25)
+                .title("Junior Developer")
+                .build();
+    }
+}
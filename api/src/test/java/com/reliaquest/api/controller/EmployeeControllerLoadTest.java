@@ -0,0 +1,154 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.ApiApplication;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+/**
+ * Compares how many requests the synchronous controller, the asynchronous controller and the synchronous controller on
+ * virtual threads keep in flight against a slow mock API.
+ *
+ * <p>Every run starts the full application with Tomcat limited to {@value #TOMCAT_THREADS} worker threads, points it
+ * at a stub mock API that answers id lookups after {@code UPSTREAM_LATENCY}, and sends {@value #CONCURRENT_REQUESTS}
+ * lookups at once. The synchronous controller can never have more upstream calls in flight than Tomcat has workers;
+ * the asynchronous one is bounded by the mock API client's pool instead, and with virtual threads Tomcat's limit no
+ * longer applies. Run with {@code ./gradlew api:loadTest}, which also reports any virtual thread pinned while blocked.
+ */
+@Tag("load")
+class EmployeeControllerLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeControllerLoadTest.class);
+
+    private static final int TOMCAT_THREADS = 8;
+    private static final int CLIENT_THREADS = 64;
+    private static final int CONCURRENT_REQUESTS = 64;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(200);
+
+    private final AtomicInteger upstreamInFlight = new AtomicInteger();
+    private final AtomicInteger upstreamPeak = new AtomicInteger();
+    private final HttpClient httpClient =
+            HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private HttpServer upstream;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstream.setExecutor(Executors.newCachedThreadPool());
+        upstream.createContext("/api/v1/employee/", exchange -> {
+            int inFlight = upstreamInFlight.incrementAndGet();
+            upstreamPeak.accumulateAndGet(inFlight, Math::max);
+            try {
+                Thread.sleep(UPSTREAM_LATENCY.toMillis());
+                String id = exchange.getRequestURI().getPath().substring("/api/v1/employee/".length());
+                byte[] body = ("{\"data\":{\"id\":\"" + id + "\",\"employee_name\":\"Load Test\","
+                                + "\"employee_salary\":100000,\"employee_age\":30,\"employee_title\":\"Tester\","
+                                + "\"employee_email\":\"load.test@company.com\"},"
+                                + "\"status\":\"Successfully processed request.\"}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                upstreamInFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        upstream.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.stop(0);
+    }
+
+    @Test
+    void testConcurrencyCeiling_SyncVersusAsyncVersusVirtual() throws Exception {
+        Result sync = run(false, false);
+        Result async = run(true, false);
+        Result virtual = run(false, true);
+
+        for (Result result : List.of(sync, async, virtual)) {
+            log.info(
+                    "{}: upstream peak {}, {} ms, {} req/s",
+                    result.mode(),
+                    result.upstreamPeak(),
+                    result.elapsed().toMillis(),
+                    String.format("%.1f", result.throughput()));
+        }
+
+        assertTrue(sync.upstreamPeak() <= TOMCAT_THREADS, "sync peak " + sync.upstreamPeak());
+        assertTrue(async.upstreamPeak() > TOMCAT_THREADS, "async peak " + async.upstreamPeak());
+        assertTrue(virtual.upstreamPeak() > TOMCAT_THREADS, "virtual peak " + virtual.upstreamPeak());
+        assertTrue(async.elapsed().compareTo(sync.elapsed()) < 0);
+        assertTrue(virtual.elapsed().compareTo(sync.elapsed()) < 0);
+    }
+
+    private Result run(boolean async, boolean virtualThreads) throws Exception {
+        upstreamPeak.set(0);
+        try (var context = new SpringApplicationBuilder(ApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "api.async.enabled=" + async,
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "mock.api.base-url=http://localhost:" + upstream.getAddress().getPort() + "/api/v1/employee",
+                        "mock.api.client.threads=" + CLIENT_THREADS,
+                        "mock.api.rate-limit.enabled=false",
+                        "mock.api.cache.refresh-ahead.enabled=false",
+                        "logging.level.com.reliaquest.api=WARN")
+                .run()) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+            long start = System.nanoTime();
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                URI uri = URI.create("http://localhost:" + port + "/" + UUID.randomUUID());
+                HttpRequest request =
+                        HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).build();
+                responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+            }
+            for (CompletableFuture<HttpResponse<String>> response : responses) {
+                assertEquals(200, response.get(30, TimeUnit.SECONDS).statusCode());
+            }
+            String mode = virtualThreads ? "virtual" : async ? "async" : "sync";
+            return new Result(mode, upstreamPeak.get(), Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private record Result(String mode, int upstreamPeak, Duration elapsed) {
+
+        double throughput() {
+            return CONCURRENT_REQUESTS / (elapsed.toNanos() / 1e9);
+        }
+    }
+}
@@ -1,24 +1,34 @@
 package com.reliaquest.api.controller;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeSnapshot;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
 import com.reliaquest.api.service.EmployeeService;
+import java.io.ByteArrayInputStream;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(EmployeeController.class)
 class EmployeeControllerTest {
@@ -61,6 +71,76 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[1].employee_name").value("Jane Smith"));
     }
 
+    @Test
+    void testGetAllEmployees_ServedFromSnapshotWithETag() throws Exception {
+        List<Employee> employees = List.of(Employee.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(100000)
+                .age(30)
+                .title("Developer")
+                .email("john.doe@company.com")
+                .build());
+        when(employeeService.peekSnapshot()).thenReturn(Optional.of(EmployeeSnapshot.of(employees)));
+
+        MvcResult result = mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(content().json(objectMapper.writeValueAsString(employees), true))
+                .andReturn();
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/highestSalary").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(content().string("100000"));
+        verify(employeeService, never()).getAllEmployees();
+        verify(employeeService, never()).getHighestSalary();
+    }
+
+    @Test
+    void testGetAllEmployees_SendsPrecompressedBodyToGzipClients() throws Exception {
+        List<Employee> employees = IntStream.range(0, 50)
+                .mapToObj(i -> Employee.builder()
+                        .id(UUID.randomUUID())
+                        .name("Employee " + i)
+                        .salary(50000 + i)
+                        .age(30)
+                        .title("Developer")
+                        .email("employee." + i + "@company.com")
+                        .build())
+                .toList();
+        when(employeeService.peekSnapshot()).thenReturn(Optional.of(EmployeeSnapshot.of(employees)));
+
+        MvcResult result = mockMvc.perform(get("/").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+
+        byte[] body;
+        try (GZIPInputStream gzip = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            body = gzip.readAllBytes();
+        }
+        assertArrayEquals(objectMapper.writeValueAsBytes(employees), body);
+        assertTrue(result.getResponse().getHeader(HttpHeaders.ETAG).endsWith("-gzip\""));
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertTrue(SnapshotResponseInterceptor.acceptsGzip("gzip"));
+        assertTrue(SnapshotResponseInterceptor.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(SnapshotResponseInterceptor.acceptsGzip("*"));
+        assertFalse(SnapshotResponseInterceptor.acceptsGzip(null));
+        assertFalse(SnapshotResponseInterceptor.acceptsGzip("br, deflate"));
+        assertFalse(SnapshotResponseInterceptor.acceptsGzip("gzip;q=0, br"));
+        assertFalse(SnapshotResponseInterceptor.acceptsGzip("*;q=0.000"));
+    }
+
     @Test
     void testGetEmployeesByNameSearch() throws Exception {
         List<Employee> employees = Arrays.asList(Employee.builder()
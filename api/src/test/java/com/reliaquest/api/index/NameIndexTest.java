@@ -0,0 +1,161 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class NameIndexTest {
+
+    private final List<Employee> employees = Arrays.asList(
+            createEmployee("John Doe"),
+            createEmployee("Jane Smith"),
+            createEmployee("Bob Johnson"),
+            createEmployee("Anna Banana"),
+            createEmployee(null));
+
+    @Test
+    void testSearch_Substring() {
+        NameIndex index = NameIndex.of(employees);
+
+        assertEquals(List.of("John Doe", "Bob Johnson"), names(index.search("john")));
+        assertEquals(List.of("Bob Johnson"), names(index.search("b johns")));
+    }
+
+    @Test
+    void testSearch_CaseInsensitive() {
+        NameIndex index = NameIndex.of(employees);
+
+        assertEquals(List.of("Jane Smith"), names(index.search("JANE")));
+    }
+
+    @Test
+    void testSearch_RepeatedTrigrams() {
+        NameIndex index = NameIndex.of(employees);
+
+        assertEquals(List.of("Anna Banana"), names(index.search("anana")));
+        assertTrue(index.search("ananana").isEmpty());
+    }
+
+    @Test
+    void testSearch_ShortQueriesScan() {
+        NameIndex index = NameIndex.of(employees);
+
+        assertEquals(List.of("Jane Smith", "Anna Banana"), names(index.search("an")));
+        assertEquals(4, index.search("").size());
+    }
+
+    @Test
+    void testSearch_NotFound() {
+        NameIndex index = NameIndex.of(employees);
+
+        assertTrue(index.search("xyz").isEmpty());
+    }
+
+    @Test
+    void testWithAdded() {
+        NameIndex index = NameIndex.of(employees);
+
+        NameIndex added = index.withAdded(createEmployee("Johnny Cash"));
+
+        assertEquals(List.of("John Doe", "Bob Johnson", "Johnny Cash"), names(added.search("john")));
+        assertEquals(List.of("John Doe", "Bob Johnson"), names(index.search("john")));
+        assertEquals(6, added.size());
+    }
+
+    @Test
+    void testWithAddedAll_MatchesRebuiltIndex() {
+        NameIndex index = NameIndex.of(employees);
+        List<Employee> added =
+                List.of(createEmployee("Johnny Cash"), createEmployee(null), createEmployee("Jon Johns"));
+
+        NameIndex batched = index.withAddedAll(added);
+
+        NameIndex rebuilt = NameIndex.of(Stream.concat(employees.stream(), added.stream()).toList());
+        for (String query : List.of("john", "ohn", "jo", "an", "cash", "zzz")) {
+            assertEquals(names(rebuilt.search(query)), names(batched.search(query)), query);
+        }
+        assertEquals(List.of("John Doe", "Bob Johnson"), names(index.search("john")));
+        assertEquals(8, batched.size());
+        assertSame(index, index.withAddedAll(List.of()));
+    }
+
+    @Test
+    void testWithRemoved() {
+        NameIndex index = NameIndex.of(employees);
+
+        NameIndex removed = index.withRemoved(employees.get(0));
+
+        assertEquals(List.of("Bob Johnson"), names(removed.search("john")));
+        assertEquals(List.of("John Doe", "Bob Johnson"), names(index.search("john")));
+        assertSame(removed, removed.withRemoved(employees.get(0)));
+        assertEquals(4, removed.size());
+    }
+
+    @Test
+    void testWithRemoved_CompactsWhenMostlyRemoved() {
+        NameIndex index = NameIndex.of(employees);
+        for (Employee employee : employees) {
+            index = index.withRemoved(employee);
+        }
+
+        assertEquals(0, index.size());
+        assertTrue(index.search("").isEmpty());
+    }
+
+    @Test
+    void testWithRemovedAll() {
+        NameIndex index = NameIndex.of(employees);
+
+        NameIndex removed = index.withRemovedAll(List.of(employees.get(0), employees.get(3), employees.get(0)));
+
+        assertEquals(List.of("Bob Johnson"), names(removed.search("john")));
+        assertTrue(removed.search("banana").isEmpty());
+        assertEquals(List.of("John Doe", "Bob Johnson"), names(index.search("john")));
+        assertEquals(3, removed.size());
+        assertSame(removed, removed.withRemovedAll(List.of(employees.get(0))));
+        assertEquals(0, index.withRemovedAll(employees).size());
+    }
+
+    @Test
+    void testSearch_MatchesLinearScan() {
+        String[] fragments = {"jo", "an", "son", "ith", "n s", "smi", "ohn do"};
+        Random random = new Random(7);
+        List<Employee> generated = IntStream.range(0, 500)
+                .mapToObj(i -> createEmployee(fragments[random.nextInt(fragments.length)]
+                        + fragments[random.nextInt(fragments.length)]
+                        + " "
+                        + fragments[random.nextInt(fragments.length)]))
+                .collect(Collectors.toList());
+        NameIndex index = NameIndex.of(generated);
+
+        for (String query : List.of("john", "ohn", "ansmi", "son smi", "n s", "ithith", "jo an")) {
+            List<Employee> expected = generated.stream()
+                    .filter(employee -> employee.getName().toLowerCase().contains(query))
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.search(query), "query: " + query);
+        }
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getName).collect(Collectors.toList());
+    }
+
+    private static Employee createEmployee(String name) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100000)
+                .age(30)
+                .title("Developer")
+                .email("employee@company.com")
+                .build();
+    }
+}
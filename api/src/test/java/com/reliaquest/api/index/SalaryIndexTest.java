@@ -0,0 +1,140 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+        employees = Arrays.asList(
+                createEmployee("John Doe", 100000),
+                createEmployee("Jane Smith", 150000),
+                createEmployee("Bob Johnson", 120000),
+                createEmployee("Alice Brown", 150000),
+                createEmployee("Carl White", 50000));
+    }
+
+    @Test
+    void testHighestSalary() {
+        SalaryIndex index = SalaryIndex.of(employees);
+
+        assertEquals(OptionalInt.of(150000), index.highestSalary());
+        assertEquals(OptionalInt.of(50000), index.lowestSalary());
+    }
+
+    @Test
+    void testHighestSalary_Empty() {
+        SalaryIndex index = SalaryIndex.of(List.of());
+
+        assertTrue(index.highestSalary().isEmpty());
+        assertTrue(index.top(10).isEmpty());
+        assertTrue(index.salaryAtPercentile(50).isEmpty());
+    }
+
+    @Test
+    void testTop_KeepsSourceOrderForEqualSalaries() {
+        SalaryIndex index = SalaryIndex.of(employees);
+
+        assertEquals(List.of("Jane Smith", "Alice Brown", "Bob Johnson"), names(index.top(3)));
+        assertEquals(5, index.top(10).size());
+    }
+
+    @Test
+    void testRankOf() {
+        SalaryIndex index = SalaryIndex.of(employees);
+
+        assertEquals(1, index.rankOf(150000));
+        assertEquals(3, index.rankOf(120000));
+        assertEquals(4, index.rankOf(110000));
+        assertEquals(6, index.rankOf(10000));
+        assertEquals(OptionalInt.of(4), index.rankOf(employees.get(0)));
+        assertTrue(index.rankOf(createEmployee("Unknown", 100000)).isEmpty());
+    }
+
+    @Test
+    void testPercentiles() {
+        SalaryIndex index = SalaryIndex.of(employees);
+
+        assertEquals(0.0, index.percentileOf(50000));
+        assertEquals(40.0, index.percentileOf(120000));
+        assertEquals(100.0, index.percentileOf(200000));
+        assertEquals(OptionalInt.of(50000), index.salaryAtPercentile(0));
+        assertEquals(OptionalInt.of(120000), index.salaryAtPercentile(50));
+        assertEquals(OptionalInt.of(150000), index.salaryAtPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> index.salaryAtPercentile(101));
+    }
+
+    @Test
+    void testAddAndRemove() {
+        SalaryIndex index = SalaryIndex.of(employees);
+        Employee newHire = createEmployee("New Hire", 150000);
+
+        index.add(newHire);
+
+        assertEquals(6, index.size());
+        assertEquals(List.of("Jane Smith", "Alice Brown", "New Hire"), names(index.top(3)));
+
+        assertTrue(index.remove(employees.get(1)));
+        assertFalse(index.remove(employees.get(1)));
+
+        assertEquals(5, index.size());
+        assertEquals(List.of("Alice Brown", "New Hire", "Bob Johnson"), names(index.top(3)));
+    }
+
+    @Test
+    void testRemoveAll() {
+        SalaryIndex index = SalaryIndex.of(employees);
+
+        int removed = index.removeAll(
+                List.of(employees.get(1), employees.get(4), createEmployee("Not Indexed", 120000), employees.get(1)));
+
+        assertEquals(2, removed);
+        assertEquals(3, index.size());
+        assertEquals(List.of("Alice Brown", "Bob Johnson", "John Doe"), names(index.top(5)));
+        assertEquals(OptionalInt.of(100000), index.lowestSalary());
+    }
+
+    @Test
+    void testCopy_IsIndependent() {
+        SalaryIndex index = SalaryIndex.of(employees);
+        SalaryIndex copy = index.copy();
+
+        copy.add(createEmployee("Top Earner", 900000));
+
+        assertEquals(OptionalInt.of(150000), index.highestSalary());
+        assertEquals(OptionalInt.of(900000), copy.highestSalary());
+    }
+
+    @Test
+    void testEmployeesWithoutSalaryAreNotIndexed() {
+        SalaryIndex index = SalaryIndex.of(List.of(createEmployee("No Salary", null), employees.get(0)));
+
+        assertEquals(1, index.size());
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getName).collect(Collectors.toList());
+    }
+
+    private static Employee createEmployee(String name, Integer salary) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Developer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.reliaquest.api.resilience;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRateLimiterTest {
+
+    private static final Duration LOCKOUT = Duration.ofSeconds(30);
+
+    private long now;
+    private AdaptiveRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        now = Duration.ofHours(1).toNanos();
+        rateLimiter = new AdaptiveRateLimiter(
+                true, LOCKOUT, Duration.ofMinutes(2), Duration.ofSeconds(5), 2, () -> now);
+    }
+
+    @Test
+    void testBudgetUnknown_AdmitsEverything() {
+        for (int i = 0; i < 50; i++) {
+            assertTrue(rateLimiter.reserve(RequestPriority.LOW).granted());
+            rateLimiter.onSuccess();
+        }
+        assertEquals(OptionalInt.empty(), rateLimiter.budget());
+    }
+
+    @Test
+    void testRateLimited_LearnsBudgetAndHoldsTraffic() {
+        succeed(6);
+        advance(Duration.ofSeconds(1));
+        rateLimited();
+
+        assertEquals(OptionalInt.of(6), rateLimiter.budget());
+        assertTrue(rateLimiter.reserve(RequestPriority.LOW).rejected());
+        assertEquals(
+                LOCKOUT.minusSeconds(1).toNanos(),
+                rateLimiter.reserve(RequestPriority.HIGH).waitNanos());
+    }
+
+    @Test
+    void testLockoutOver_AdmitsSingleProbe() {
+        succeed(6);
+        rateLimited();
+        advance(LOCKOUT);
+
+        assertTrue(rateLimiter.reserve(RequestPriority.HIGH).granted());
+        assertEquals(
+                AdaptiveRateLimiter.PROBE_POLL_NANOS,
+                rateLimiter.reserve(RequestPriority.HIGH).waitNanos());
+
+        rateLimiter.onSuccess();
+
+        assertTrue(rateLimiter.reserve(RequestPriority.HIGH).granted());
+        assertEquals(Duration.ofSeconds(25), rateLimiter.lockout());
+    }
+
+    @Test
+    void testProbeRateLimited_GrowsLockout() {
+        succeed(6);
+        rateLimited();
+        advance(LOCKOUT);
+
+        assertTrue(rateLimiter.reserve(RequestPriority.HIGH).granted());
+        rateLimiter.onRateLimited();
+
+        assertEquals(Duration.ofSeconds(45), rateLimiter.lockout());
+        assertEquals(
+                Duration.ofSeconds(15).toNanos(),
+                rateLimiter.reserve(RequestPriority.HIGH).waitNanos());
+
+        advance(Duration.ofSeconds(15));
+        assertTrue(rateLimiter.reserve(RequestPriority.HIGH).granted());
+        rateLimiter.onSuccess();
+        assertEquals(Duration.ofSeconds(45), rateLimiter.lockout());
+    }
+
+    @Test
+    void testLearnedBudget_PausesBeforeUpstreamLocksOut() {
+        learnBudget(6);
+
+        // The probe opened a new cycle, so five more requests fit before the pause.
+        succeed(5);
+        assertEquals(
+                rateLimiter.lockout().toNanos(),
+                rateLimiter.reserve(RequestPriority.HIGH).waitNanos());
+
+        advance(rateLimiter.lockout());
+        assertTrue(rateLimiter.reserve(RequestPriority.HIGH).granted());
+    }
+
+    @Test
+    void testRateLimitedAfterPause_GrowsBudget() {
+        learnBudget(6);
+        succeed(5);
+        advance(rateLimiter.lockout());
+
+        // The upstream allows 8, so the pause did not reset it and only two more requests get through.
+        succeed(2);
+        rateLimited();
+
+        assertEquals(OptionalInt.of(8), rateLimiter.budget());
+    }
+
+    @Test
+    void testLowPriority_ShedWhenReserveReached() {
+        learnBudget(6);
+
+        assertTrue(rateLimiter.reserve(RequestPriority.LOW).granted());
+        rateLimiter.onSuccess();
+        assertTrue(rateLimiter.reserve(RequestPriority.LOW).granted());
+        rateLimiter.onSuccess();
+        assertTrue(rateLimiter.reserve(RequestPriority.LOW).granted());
+        rateLimiter.onSuccess();
+
+        assertTrue(rateLimiter.reserve(RequestPriority.LOW).rejected());
+        assertTrue(rateLimiter.reserve(RequestPriority.HIGH).granted());
+    }
+
+    @Test
+    void testUnlimited_AlwaysGrants() {
+        AdaptiveRateLimiter unlimited = AdaptiveRateLimiter.unlimited();
+        unlimited.onRateLimited();
+
+        assertTrue(unlimited.reserve(RequestPriority.LOW).granted());
+        assertEquals(OptionalInt.empty(), unlimited.budget());
+    }
+
+    private void learnBudget(int budget) {
+        succeed(budget);
+        rateLimited();
+        advance(rateLimiter.lockout());
+        assertTrue(rateLimiter.reserve(RequestPriority.HIGH).granted());
+        rateLimiter.onSuccess();
+    }
+
+    private void succeed(int requests) {
+        for (int i = 0; i < requests; i++) {
+            assertTrue(rateLimiter.reserve(RequestPriority.HIGH).granted());
+            rateLimiter.onSuccess();
+        }
+    }
+
+    private void rateLimited() {
+        assertTrue(rateLimiter.reserve(RequestPriority.HIGH).granted());
+        rateLimiter.onRateLimited();
+    }
+
+    private void advance(Duration duration) {
+        now += duration.toNanos();
+    }
+}
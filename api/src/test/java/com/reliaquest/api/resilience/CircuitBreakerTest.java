@@ -0,0 +1,103 @@
+package com.reliaquest.api.resilience;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private long now;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        now = Duration.ofHours(1).toNanos();
+        circuitBreaker = new CircuitBreaker("getAll", true, 3, OPEN_DURATION, () -> now);
+    }
+
+    @Test
+    void testConsecutiveFailures_OpenBreaker() {
+        fail(3);
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquire());
+        assertEquals(OPEN_DURATION, circuitBreaker.retryAfter());
+    }
+
+    @Test
+    void testSuccess_ResetsFailureCount() {
+        fail(2);
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onSuccess();
+        fail(2);
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state());
+    }
+
+    @Test
+    void testHalfOpen_AdmitsSingleProbe() {
+        fail(3);
+        advance(OPEN_DURATION);
+
+        assertTrue(circuitBreaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquire());
+
+        circuitBreaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void testHalfOpen_ProbeFailureReopens() {
+        fail(3);
+        advance(OPEN_DURATION);
+        assertTrue(circuitBreaker.tryAcquire());
+
+        circuitBreaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquire());
+        advance(OPEN_DURATION.minusSeconds(1));
+        assertFalse(circuitBreaker.tryAcquire());
+        advance(Duration.ofSeconds(1));
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void testHalfOpen_ReleasedProbeLetsNextCallerProbe() {
+        fail(3);
+        advance(OPEN_DURATION);
+        assertTrue(circuitBreaker.tryAcquire());
+
+        circuitBreaker.release();
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.state());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void testDisabled_NeverOpens() {
+        circuitBreaker = CircuitBreaker.disabled("getAll");
+
+        fail(100);
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state());
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            assertTrue(circuitBreaker.tryAcquire());
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private void advance(Duration duration) {
+        now += duration.toNanos();
+    }
+}
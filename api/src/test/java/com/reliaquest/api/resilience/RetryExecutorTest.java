@@ -0,0 +1,360 @@
+package com.reliaquest.api.resilience;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.RateLimitException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeApiClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RetryExecutorTest {
+
+    private final ThreadPoolExecutor attemptExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(2);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RetryExecutor retryExecutor;
+
+    @AfterEach
+    void tearDown() {
+        retryExecutor.shutdown();
+    }
+
+    @Test
+    void testExecute_RetriesUntilSuccess() {
+        retryExecutor = retryExecutor(3, Duration.ofMillis(10), Duration.ofSeconds(5));
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = retryExecutor
+                .execute(UpstreamOperation.GET_ALL, RequestPriority.HIGH, () -> {
+                    if (calls.incrementAndGet() < 3) {
+                        throw new RateLimitException("Rate limit hit");
+                    }
+                    return "done";
+                })
+                .join();
+
+        assertEquals("done", result);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void testExecute_MaxAttemptsExceeded() {
+        retryExecutor = retryExecutor(3, Duration.ofMillis(10), Duration.ofSeconds(5));
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> future =
+                retryExecutor.execute(UpstreamOperation.GET_ALL, RequestPriority.HIGH, () -> {
+                    calls.incrementAndGet();
+                    throw new RateLimitException("Rate limit hit");
+                });
+
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(RateLimitException.class, exception.getCause());
+        assertEquals("Rate limit exceeded after 3 attempts", exception.getCause().getMessage());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void testExecute_GivesUpAtDeadline() {
+        retryExecutor = retryExecutor(1000, Duration.ofMillis(20), Duration.ofMillis(200));
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> future =
+                retryExecutor.execute(UpstreamOperation.GET_ALL, RequestPriority.HIGH, () -> {
+                    calls.incrementAndGet();
+                    throw new RateLimitException("Rate limit hit");
+                });
+
+        CompletionException exception = assertThrows(
+                CompletionException.class, () -> future.orTimeout(5, TimeUnit.SECONDS).join());
+        assertInstanceOf(RateLimitException.class, exception.getCause());
+        assertTrue(calls.get() < 1000);
+    }
+
+    @Test
+    void testExecute_DoesNotRetryOtherFailures() {
+        retryExecutor = retryExecutor(3, Duration.ofMillis(10), Duration.ofSeconds(5));
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> future =
+                retryExecutor.execute(UpstreamOperation.GET_ALL, RequestPriority.HIGH, () -> {
+                    calls.incrementAndGet();
+                    throw new EmployeeNotFoundException("Employee with id 1 not found");
+                });
+
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(EmployeeNotFoundException.class, exception.getCause());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testShutdown_FailsCallsAsUnavailable() {
+        retryExecutor = retryExecutor(3, Duration.ofMillis(10), Duration.ofSeconds(5));
+        retryExecutor.shutdown();
+
+        CompletableFuture<String> future =
+                retryExecutor.execute(UpstreamOperation.GET_ALL, RequestPriority.HIGH, () -> "done");
+
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(UpstreamUnavailableException.class, exception.getCause());
+        assertEquals("Mock API client is shutting down", exception.getCause().getMessage());
+    }
+
+    @Test
+    void testShutdown_FailsWaitingRetriesAsUnavailable() {
+        retryExecutor = retryExecutor(3, Duration.ofMillis(10), Duration.ofSeconds(5));
+
+        CompletableFuture<String> future =
+                retryExecutor.execute(UpstreamOperation.GET_ALL, RequestPriority.HIGH, () -> {
+                    // The retry is scheduled after the executor has shut down.
+                    retryExecutor.shutdown();
+                    throw new RateLimitException("Rate limit hit");
+                });
+
+        CompletionException exception = assertThrows(
+                CompletionException.class, () -> future.orTimeout(5, TimeUnit.SECONDS).join());
+        assertInstanceOf(UpstreamUnavailableException.class, exception.getCause());
+    }
+
+    @Test
+    void testCircuitBreaker_OpensOnRateLimitsAndFailsFast() {
+        retryExecutor = retryExecutor(
+                3,
+                Duration.ofMillis(10),
+                Duration.ofSeconds(5),
+                name -> new CircuitBreaker(name, 2, Duration.ofMinutes(1)),
+                Bulkhead.unbounded());
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> tripped =
+                retryExecutor.execute(UpstreamOperation.GET_ALL, RequestPriority.HIGH, () -> {
+                    calls.incrementAndGet();
+                    throw new RateLimitException("Rate limit hit");
+                });
+        CompletionException exception = assertThrows(CompletionException.class, tripped::join);
+        assertInstanceOf(UpstreamUnavailableException.class, exception.getCause());
+        assertEquals(2, calls.get());
+
+        CompletableFuture<String> failedFast =
+                retryExecutor.execute(UpstreamOperation.GET_ALL, RequestPriority.HIGH, () -> {
+                    calls.incrementAndGet();
+                    return "done";
+                });
+        exception = assertThrows(CompletionException.class, failedFast::join);
+        assertInstanceOf(UpstreamUnavailableException.class, exception.getCause());
+        assertEquals(2, calls.get());
+
+        // Breakers are per operation.
+        assertEquals(
+                "done",
+                retryExecutor
+                        .execute(UpstreamOperation.GET_BY_ID, RequestPriority.HIGH, () -> "done")
+                        .join());
+    }
+
+    @Test
+    void testBulkhead_RejectsCallsBeyondLimit() {
+        retryExecutor = retryExecutor(
+                3, Duration.ofMillis(10), Duration.ofSeconds(5), CircuitBreaker::disabled, new Bulkhead(1));
+        CompletableFuture<String> blocker = new CompletableFuture<>();
+
+        CompletableFuture<String> first =
+                retryExecutor.executeAsync(UpstreamOperation.GET_ALL, RequestPriority.HIGH, () -> blocker);
+        CompletableFuture<String> second = retryExecutor.executeAsync(
+                UpstreamOperation.GET_ALL, RequestPriority.HIGH, () -> CompletableFuture.completedFuture("second"));
+
+        CompletionException exception = assertThrows(CompletionException.class, second::join);
+        assertInstanceOf(UpstreamUnavailableException.class, exception.getCause());
+
+        blocker.complete("first");
+        assertEquals("first", first.join());
+        assertEquals(
+                "third",
+                retryExecutor
+                        .executeAsync(
+                                UpstreamOperation.GET_ALL,
+                                RequestPriority.HIGH,
+                                () -> CompletableFuture.completedFuture("third"))
+                        .join());
+    }
+
+    @Test
+    void testMetrics_RecordRetriesAndOutcomes() {
+        retryExecutor = retryExecutor(3, Duration.ofMillis(10), Duration.ofSeconds(5));
+        AtomicInteger calls = new AtomicInteger();
+
+        retryExecutor
+                .execute(UpstreamOperation.GET_ALL, RequestPriority.HIGH, () -> {
+                    if (calls.incrementAndGet() < 2) {
+                        throw new RateLimitException("Rate limit hit");
+                    }
+                    return "done";
+                })
+                .join();
+        CompletableFuture<String> exhausted =
+                retryExecutor.execute(UpstreamOperation.DELETE, RequestPriority.HIGH, () -> {
+                    throw new RateLimitException("Rate limit hit");
+                });
+        assertThrows(CompletionException.class, exhausted::join);
+
+        assertEquals(1, calls("getAll", "success"));
+        assertEquals(2, meterRegistry.get("mock.api.attempts").tag("operation", "getAll").timer().count());
+        assertEquals(1, counter("mock.api.rate-limited", "getAll"));
+        assertEquals(1, counter("mock.api.retries", "getAll"));
+        assertEquals(0, counter("mock.api.retries.exhausted", "getAll"));
+
+        assertEquals(1, calls("delete", "rate_limited"));
+        assertEquals(3, counter("mock.api.rate-limited", "delete"));
+        assertEquals(2, counter("mock.api.retries", "delete"));
+        assertEquals(1, counter("mock.api.retries.exhausted", "delete"));
+    }
+
+    @Test
+    void testBackoff_FullJitterWithinExponentialCeiling() {
+        retryExecutor = retryExecutor(5, Duration.ofMillis(100), Duration.ofSeconds(10));
+
+        for (int attempt = 1; attempt <= 4; attempt++) {
+            long ceiling = Duration.ofMillis(100).toNanos() << (attempt - 1);
+            for (int i = 0; i < 100; i++) {
+                long delay = retryExecutor.backoffNanos(attempt);
+                assertTrue(delay >= 0 && delay <= ceiling, "attempt " + attempt + " delay " + delay);
+            }
+        }
+    }
+
+    @Test
+    void testLockout_WaitingRetriesHoldNoThreads() throws Exception {
+        retryExecutor = retryExecutor(1000, Duration.ofMillis(200), Duration.ofSeconds(30));
+        AtomicBoolean lockedOut = new AtomicBoolean(true);
+        AtomicInteger calls = new AtomicInteger();
+        int requests = 200;
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            int request = i;
+            futures.add(retryExecutor.execute(UpstreamOperation.GET_ALL, RequestPriority.HIGH, () -> {
+                calls.incrementAndGet();
+                if (lockedOut.get()) {
+                    throw new RateLimitException("Rate limit hit");
+                }
+                return request;
+            }));
+        }
+
+        // Every request has been rejected at least once and is now waiting for a retry, yet no attempt thread is busy.
+        awaitCondition(() -> calls.get() >= requests);
+        awaitCondition(() -> attemptExecutor.getActiveCount() == 0
+                && attemptExecutor.getQueue().isEmpty());
+        assertEquals(requests, futures.stream().filter(future -> !future.isDone()).count());
+        assertTrue(attemptExecutor.getLargestPoolSize() <= 2);
+
+        lockedOut.set(false);
+        for (int i = 0; i < requests; i++) {
+            assertEquals(i, futures.get(i).get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testLockout_SyncCallersStayParkedWhileRetriesWait() throws Exception {
+        retryExecutor = retryExecutor(1000, Duration.ofMillis(200), Duration.ofSeconds(30));
+        AtomicBoolean lockedOut = new AtomicBoolean(true);
+        AtomicInteger calls = new AtomicInteger();
+        EmployeeApiClient client = mock(EmployeeApiClient.class, CALLS_REAL_METHODS);
+        doAnswer(invocation -> retryExecutor.execute(UpstreamOperation.GET_BY_ID, RequestPriority.HIGH, () -> {
+                    calls.incrementAndGet();
+                    if (lockedOut.get()) {
+                        throw new RateLimitException("Rate limit hit");
+                    }
+                    return Employee.builder().name(invocation.getArgument(0)).build();
+                }))
+                .when(client)
+                .getEmployeeByIdAsync(anyString());
+        int requests = 8;
+        // Stands in for Tomcat's request threads calling the synchronous client, as EmployeeController does.
+        ThreadPoolExecutor servletThreads = (ThreadPoolExecutor) Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<Employee>> responses = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                String id = Integer.toString(i);
+                responses.add(servletThreads.submit(() -> client.getEmployeeById(id)));
+            }
+
+            // The attempt pool is idle while the retries wait on the timer, but every servlet thread is still held.
+            awaitCondition(() -> calls.get() >= requests);
+            awaitCondition(() -> attemptExecutor.getActiveCount() == 0
+                    && attemptExecutor.getQueue().isEmpty());
+            assertEquals(requests, servletThreads.getActiveCount());
+            assertTrue(responses.stream().noneMatch(Future::isDone));
+
+            lockedOut.set(false);
+            for (int i = 0; i < requests; i++) {
+                assertEquals(Integer.toString(i), responses.get(i).get(10, TimeUnit.SECONDS).getName());
+            }
+        } finally {
+            servletThreads.shutdownNow();
+        }
+    }
+
+    private RetryExecutor retryExecutor(int maxAttempts, Duration initialDelay, Duration deadline) {
+        return retryExecutor(maxAttempts, initialDelay, deadline, CircuitBreaker::disabled, Bulkhead.unbounded());
+    }
+
+    private RetryExecutor retryExecutor(
+            int maxAttempts,
+            Duration initialDelay,
+            Duration deadline,
+            Function<String, CircuitBreaker> circuitBreakers,
+            Bulkhead bulkhead) {
+        return new RetryExecutor(
+                AdaptiveRateLimiter.unlimited(),
+                operation -> circuitBreakers.apply(operation.tag()),
+                bulkhead,
+                Executors.newSingleThreadScheduledExecutor(),
+                attemptExecutor,
+                maxAttempts,
+                initialDelay,
+                2,
+                deadline,
+                meterRegistry);
+    }
+
+    private long calls(String operation, String outcome) {
+        return meterRegistry
+                .get("mock.api.calls")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private double counter(String name, String operation) {
+        return meterRegistry.get(name).tag("operation", operation).counter().count();
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(1);
+        }
+    }
+}
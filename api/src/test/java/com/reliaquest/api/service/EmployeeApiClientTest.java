@@ -11,6 +11,8 @@ import com.reliaquest.api.exception.RateLimitException;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.resilience.RequestPriority;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -34,7 +36,8 @@ import org.springframework.web.client.RestTemplate;
             "mock.api.base-url=http://localhost:8112/api/v1/employee",
             "mock.api.retry.max-attempts=3",
             "mock.api.retry.initial-delay-ms=10",
-            "mock.api.retry.multiplier=2"
+            "mock.api.retry.multiplier=2",
+            "mock.api.rate-limit.enabled=false"
         })
 class EmployeeApiClientTest {
 
@@ -83,6 +86,34 @@ class EmployeeApiClientTest {
         mockServer.verify();
     }
 
+    @Test
+    void testStreamEmployeePage_SendsCursorsAndReadsNextCursor() throws Exception {
+        Employee employee = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(100000)
+                .age(30)
+                .title("Developer")
+                .email("john.doe@company.com")
+                .build();
+        String body = "{\"data\":" + objectMapper.writeValueAsString(List.of(employee))
+                + ",\"status\":\"Successfully processed request.\",\"next_cursor\":6,\"end_cursor\":20}";
+
+        mockServer
+                .expect(requestTo(baseUrl + "/page?after=5&until=9&limit=1"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+
+        List<Employee> received = new ArrayList<>();
+        EmployeeApiClient.Page page = employeeApiClient
+                .streamEmployeePageAsync(RequestPriority.HIGH, 5L, 9L, 1, received::add)
+                .join();
+
+        assertEquals(new EmployeeApiClient.Page(1, 6L, 20L), page);
+        assertEquals(List.of(employee), received);
+        mockServer.verify();
+    }
+
     @Test
     void testGetEmployeeById_Success() throws Exception {
         UUID employeeId = UUID.randomUUID();
@@ -0,0 +1,116 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class EmployeeListParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmployeeListParser parser = new EmployeeListParser(objectMapper);
+
+    @Test
+    void testParse_StreamsEveryEmployee() throws Exception {
+        List<Employee> employees = employees(500);
+        List<Employee> parsed = new ArrayList<>();
+
+        int count = parser.parse(new ByteArrayInputStream(body(employees)), parsed::add);
+
+        assertEquals(500, count);
+        assertEquals(employees, parsed);
+    }
+
+    @Test
+    void testFeed_EmployeesSplitAcrossBuffers() throws Exception {
+        List<Employee> employees = employees(200);
+        byte[] body = body(employees);
+
+        for (int chunk : new int[] {1, 7, 8192}) {
+            List<Employee> parsed = new ArrayList<>();
+            EmployeeListParser.Feed feed = parser.feed(parsed::add);
+            for (int offset = 0; offset < body.length; offset += chunk) {
+                feed.accept(ByteBuffer.wrap(body, offset, Math.min(chunk, body.length - offset)));
+            }
+
+            assertEquals(200, feed.finish(), "chunk size " + chunk);
+            assertEquals(employees, parsed, "chunk size " + chunk);
+        }
+    }
+
+    @Test
+    void testParse_IgnoresOtherFields() {
+        String body = "{\"status\":\"ok\",\"meta\":{\"pages\":[1,{\"next\":2}]},"
+                + "\"data\":[{\"id\":\"" + new UUID(0, 1) + "\",\"employee_name\":\"John Doe\"}]}";
+        List<Employee> parsed = new ArrayList<>();
+
+        parser.parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), parsed::add);
+
+        assertEquals(1, parsed.size());
+        assertEquals("John Doe", parsed.get(0).getName());
+    }
+
+    @Test
+    void testParsePage_ReadsCursors() throws Exception {
+        List<Employee> employees = employees(3);
+        String data = objectMapper.writeValueAsString(employees);
+        byte[] body = ("{\"data\":" + data + ",\"status\":\"ok\",\"next_cursor\":12,\"end_cursor\":40}")
+                .getBytes(StandardCharsets.UTF_8);
+        List<Employee> parsed = new ArrayList<>();
+
+        EmployeeApiClient.Page page = parser.parsePage(new ByteArrayInputStream(body), parsed::add);
+
+        assertEquals(new EmployeeApiClient.Page(3, 12L, 40L), page);
+        assertEquals(employees, parsed);
+
+        EmployeeListParser.Feed feed = parser.feed(employee -> {});
+        feed.accept(ByteBuffer.wrap("{\"data\":[],\"end_cursor\":7}".getBytes(StandardCharsets.UTF_8)));
+        feed.finish();
+        assertEquals(new EmployeeApiClient.Page(0, null, 7L), feed.page());
+    }
+
+    @Test
+    void testParse_NoData() {
+        byte[] body = "{\"data\":null,\"error\":\"boom\"}".getBytes(StandardCharsets.UTF_8);
+
+        EmployeeApiException exception = assertThrows(
+                EmployeeApiException.class, () -> parser.parse(new ByteArrayInputStream(body), employee -> {}));
+
+        assertEquals("No data returned from API: boom", exception.getMessage());
+    }
+
+    @Test
+    void testFeed_TruncatedBody() {
+        EmployeeListParser.Feed feed = parser.feed(employee -> {});
+        feed.accept(ByteBuffer.wrap("{\"data\":[{\"id\":".getBytes(StandardCharsets.UTF_8)));
+
+        assertThrows(EmployeeApiException.class, feed::finish);
+    }
+
+    private byte[] body(List<Employee> employees) throws Exception {
+        return objectMapper.writeValueAsBytes(new ApiResponse<>(employees, "Successfully processed request.", null));
+    }
+
+    private static List<Employee> employees(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Employee.builder()
+                        .id(new UUID(0, i))
+                        .name("Employee " + i)
+                        .salary(30000 + i)
+                        .age(30)
+                        .title("Developer")
+                        .email("employee" + i + "@company.com")
+                        .build())
+                .toList();
+    }
+}
@@ -2,19 +2,38 @@ package com.reliaquest.api.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.RateLimitException;
+import com.reliaquest.api.model.BulkCreateResult;
+import com.reliaquest.api.model.BulkDeleteResult;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.resilience.RequestPriority;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.stubbing.Answer;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceTest {
@@ -22,13 +41,17 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeApiClient employeeApiClient;
 
-    @InjectMocks
     private EmployeeService employeeService;
 
     private List<Employee> mockEmployees;
 
     @BeforeEach
     void setUp() {
+        EmployeeSnapshotCache employeeSnapshotCache = new EmployeeSnapshotCache(
+                employeeApiClient, new ConcurrentMapCacheManager(EmployeeSnapshotCache.CACHE_NAME));
+        employeeService = new EmployeeService(employeeApiClient, employeeSnapshotCache);
+        ReflectionTestUtils.setField(employeeService, "bulkRequeueDelay", Duration.ofMillis(10));
+
         mockEmployees = Arrays.asList(
                 Employee.builder()
                         .id(UUID.randomUUID())
@@ -58,17 +81,32 @@ class EmployeeServiceTest {
 
     @Test
     void testGetAllEmployees() {
-        when(employeeApiClient.getAllEmployees()).thenReturn(mockEmployees);
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(mockEmployees));
 
         List<Employee> result = employeeService.getAllEmployees();
 
         assertEquals(3, result.size());
-        verify(employeeApiClient, times(1)).getAllEmployees();
+        verify(employeeApiClient, times(1)).streamAllEmployees(eq(RequestPriority.HIGH), any());
+    }
+
+    @Test
+    void testDerivedQueries_ShareCachedSnapshot() {
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(mockEmployees));
+
+        employeeService.getAllEmployees();
+        employeeService.searchEmployeesByName("john");
+        employeeService.getHighestSalary();
+        employeeService.getTopTenHighestEarningEmployeeNames();
+
+        verify(employeeApiClient, times(1)).streamAllEmployees(eq(RequestPriority.HIGH), any());
     }
 
     @Test
     void testSearchEmployeesByName_Found() {
-        when(employeeApiClient.getAllEmployees()).thenReturn(mockEmployees);
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(mockEmployees));
 
         List<Employee> result = employeeService.searchEmployeesByName("john");
 
@@ -79,7 +117,8 @@ class EmployeeServiceTest {
 
     @Test
     void testSearchEmployeesByName_NotFound() {
-        when(employeeApiClient.getAllEmployees()).thenReturn(mockEmployees);
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(mockEmployees));
 
         List<Employee> result = employeeService.searchEmployeesByName("xyz");
 
@@ -88,7 +127,8 @@ class EmployeeServiceTest {
 
     @Test
     void testSearchEmployeesByName_CaseInsensitive() {
-        when(employeeApiClient.getAllEmployees()).thenReturn(mockEmployees);
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(mockEmployees));
 
         List<Employee> result = employeeService.searchEmployeesByName("JANE");
 
@@ -109,9 +149,37 @@ class EmployeeServiceTest {
         verify(employeeApiClient, times(1)).getEmployeeById(employeeId.toString());
     }
 
+    @Test
+    void testGetEmployeeById_ServedFromCachedSnapshot() {
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(mockEmployees));
+        Employee johnDoe = mockEmployees.get(0);
+
+        employeeService.getAllEmployees();
+        Employee result = employeeService.getEmployeeById(johnDoe.getId().toString());
+
+        assertEquals("John Doe", result.getName());
+        verify(employeeApiClient, never()).getEmployeeById(any());
+    }
+
+    @Test
+    void testGetEmployeeById_FallsBackToApiWhenNotCached() {
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(mockEmployees));
+        Employee createdElsewhere = createEmployee("Created Elsewhere", 90000);
+        when(employeeApiClient.getEmployeeById(createdElsewhere.getId().toString())).thenReturn(createdElsewhere);
+
+        employeeService.getAllEmployees();
+        Employee result = employeeService.getEmployeeById(createdElsewhere.getId().toString());
+
+        assertEquals("Created Elsewhere", result.getName());
+        verify(employeeApiClient, times(1)).getEmployeeById(createdElsewhere.getId().toString());
+    }
+
     @Test
     void testGetHighestSalary() {
-        when(employeeApiClient.getAllEmployees()).thenReturn(mockEmployees);
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(mockEmployees));
 
         Integer result = employeeService.getHighestSalary();
 
@@ -120,7 +188,8 @@ class EmployeeServiceTest {
 
     @Test
     void testGetHighestSalary_EmptyList() {
-        when(employeeApiClient.getAllEmployees()).thenReturn(Arrays.asList());
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(Arrays.asList()));
 
         Integer result = employeeService.getHighestSalary();
 
@@ -129,7 +198,8 @@ class EmployeeServiceTest {
 
     @Test
     void testGetTopTenHighestEarningEmployeeNames() {
-        when(employeeApiClient.getAllEmployees()).thenReturn(mockEmployees);
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(mockEmployees));
 
         List<String> result = employeeService.getTopTenHighestEarningEmployeeNames();
 
@@ -155,7 +225,8 @@ class EmployeeServiceTest {
                 createEmployee("Emp11", 130000),
                 createEmployee("Emp12", 75000));
 
-        when(employeeApiClient.getAllEmployees()).thenReturn(manyEmployees);
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(manyEmployees));
 
         List<String> result = employeeService.getTopTenHighestEarningEmployeeNames();
 
@@ -207,6 +278,44 @@ class EmployeeServiceTest {
         verify(employeeApiClient, times(1)).deleteEmployeeByName("John Doe");
     }
 
+    @Test
+    void testCreateEmployee_PatchesCachedSnapshot() {
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(mockEmployees));
+        Employee createdEmployee = createEmployee("Top Earner", 900000);
+        when(employeeApiClient.createEmployee(any(EmployeeInput.class))).thenReturn(createdEmployee);
+
+        employeeService.getAllEmployees();
+        employeeService.createEmployee(EmployeeInput.builder()
+                .name("Top Earner")
+                .salary(900000)
+                .age(40)
+                .title("Director")
+                .build());
+
+        assertEquals(4, employeeService.getAllEmployees().size());
+        assertEquals(900000, employeeService.getHighestSalary());
+        assertEquals(1, employeeService.searchEmployeesByName("top earner").size());
+        verify(employeeApiClient, times(1)).streamAllEmployees(eq(RequestPriority.HIGH), any());
+    }
+
+    @Test
+    void testDeleteEmployeeById_PatchesCachedSnapshot() {
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(mockEmployees));
+        Employee janeSmith = mockEmployees.get(1);
+        when(employeeApiClient.deleteEmployeeByName("Jane Smith")).thenReturn(true);
+
+        employeeService.getAllEmployees();
+        employeeService.deleteEmployeeById(janeSmith.getId().toString());
+
+        assertEquals(2, employeeService.getAllEmployees().size());
+        assertEquals(120000, employeeService.getHighestSalary());
+        assertTrue(employeeService.searchEmployeesByName("jane").isEmpty());
+        verify(employeeApiClient, times(1)).streamAllEmployees(eq(RequestPriority.HIGH), any());
+        verify(employeeApiClient, never()).getEmployeeById(any());
+    }
+
     @Test
     void testDeleteEmployeeById_FailedDelete() {
         UUID employeeId = UUID.randomUUID();
@@ -221,6 +330,286 @@ class EmployeeServiceTest {
         assertTrue(exception.getMessage().contains("Failed to delete employee"));
     }
 
+    @Test
+    void testGetAllEmployeesAsync_SharesSnapshotWithSyncReads() {
+        when(employeeApiClient.streamAllEmployeesAsync(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streamingAsync(mockEmployees));
+
+        List<Employee> result = employeeService.getAllEmployeesAsync().join();
+
+        assertEquals(3, result.size());
+        assertEquals(150000, employeeService.getHighestSalary());
+        verify(employeeApiClient, never()).streamAllEmployees(any(), any());
+    }
+
+    @Test
+    void testGetEmployeeByIdAsync_FallsBackToApi() {
+        UUID employeeId = UUID.randomUUID();
+        Employee employee = createEmployee("Alice", 100000);
+        when(employeeApiClient.getEmployeeByIdAsync(employeeId.toString()))
+                .thenReturn(CompletableFuture.completedFuture(employee));
+
+        assertSame(employee, employeeService.getEmployeeByIdAsync(employeeId.toString()).join());
+    }
+
+    @Test
+    void testDeleteEmployeeByIdAsync_PatchesSnapshot() {
+        when(employeeApiClient.streamAllEmployeesAsync(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streamingAsync(mockEmployees));
+        employeeService.getAllEmployeesAsync().join();
+        Employee john = mockEmployees.get(0);
+        when(employeeApiClient.deleteEmployeeByNameAsync("John Doe"))
+                .thenReturn(CompletableFuture.completedFuture(true));
+
+        String result = employeeService.deleteEmployeeByIdAsync(john.getId().toString()).join();
+
+        assertEquals("John Doe", result);
+        assertEquals(2, employeeService.getAllEmployeesAsync().join().size());
+        verify(employeeApiClient, never()).getEmployeeByIdAsync(any());
+    }
+
+    @Test
+    void testDeleteEmployeeByIdAsync_FailedDelete() {
+        UUID employeeId = UUID.randomUUID();
+        when(employeeApiClient.getEmployeeByIdAsync(employeeId.toString()))
+                .thenReturn(CompletableFuture.completedFuture(mockEmployees.get(0)));
+        when(employeeApiClient.deleteEmployeeByNameAsync("John Doe"))
+                .thenReturn(CompletableFuture.completedFuture(false));
+
+        CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> employeeService.deleteEmployeeByIdAsync(employeeId.toString()).join());
+
+        assertTrue(exception.getCause().getMessage().contains("Failed to delete employee"));
+    }
+
+    @Test
+    void testCreateEmployees_StreamsResultsAndPatchesSnapshotOnce() {
+        when(employeeApiClient.streamAllEmployees(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streaming(mockEmployees));
+        Employee topEarner = createEmployee("Top Earner", 900000);
+        Employee newHire = createEmployee("New Hire", 50000);
+        when(employeeApiClient.createEmployeeAsync(any(EmployeeInput.class)))
+                .thenReturn(CompletableFuture.completedFuture(topEarner))
+                .thenReturn(CompletableFuture.failedFuture(new EmployeeApiException("API call failed: 400")))
+                .thenReturn(CompletableFuture.completedFuture(newHire));
+        employeeService.getAllEmployees();
+
+        List<BulkCreateResult> results = new ArrayList<>();
+        List<Employee> created = employeeService
+                .createEmployees(
+                        List.of(bulkInput("Top Earner"), bulkInput("Rejected"), bulkInput("New Hire")), results::add)
+                .join();
+
+        assertEquals(List.of(topEarner, newHire), created);
+        assertEquals(
+                List.of(
+                        BulkCreateResult.created(0, topEarner),
+                        BulkCreateResult.failed(1, "API call failed: 400"),
+                        BulkCreateResult.created(2, newHire)),
+                results);
+        assertEquals(5, employeeService.getAllEmployees().size());
+        assertEquals(900000, employeeService.getHighestSalary());
+        verify(employeeApiClient, times(1)).streamAllEmployees(eq(RequestPriority.HIGH), any());
+    }
+
+    @Test
+    void testCreateEmployees_RequeuesRateLimitedCreates() {
+        Employee newHire = createEmployee("New Hire", 50000);
+        when(employeeApiClient.createEmployeeAsync(any(EmployeeInput.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RateLimitException("Rate limit hit")))
+                .thenReturn(CompletableFuture.completedFuture(newHire));
+
+        List<BulkCreateResult> results = new ArrayList<>();
+        employeeService.createEmployees(List.of(bulkInput("New Hire")), results::add).join();
+
+        assertEquals(List.of(BulkCreateResult.created(0, newHire)), results);
+        verify(employeeApiClient, times(2)).createEmployeeAsync(any(EmployeeInput.class));
+    }
+
+    @Test
+    void testCreateEmployees_WaitsBeforeRequeueingCreatesRateLimitedOnTheCallingThread() {
+        ReflectionTestUtils.setField(employeeService, "bulkTimeout", Duration.ofMillis(500));
+        List<Long> callTimes = new CopyOnWriteArrayList<>();
+        // As RetryExecutor fails a request during a lockout longer than its deadline: before returning the future.
+        when(employeeApiClient.createEmployeeAsync(any(EmployeeInput.class))).thenAnswer(invocation -> {
+            callTimes.add(System.nanoTime());
+            return CompletableFuture.failedFuture(
+                    new RateLimitException("Mock API is rate limiting", Duration.ofMillis(200)));
+        });
+
+        List<BulkCreateResult> results = new CopyOnWriteArrayList<>();
+        CompletableFuture<List<Employee>> bulk =
+                employeeService.createEmployees(List.of(bulkInput("New Hire")), results::add);
+
+        assertEquals(1, callTimes.size());
+        assertTrue(bulk.orTimeout(5, TimeUnit.SECONDS).join().isEmpty());
+        assertTrue(callTimes.size() <= 3, callTimes.size() + " calls");
+        for (int i = 1; i < callTimes.size(); i++) {
+            assertTrue(callTimes.get(i) - callTimes.get(i - 1) >= Duration.ofMillis(200).toNanos());
+        }
+        assertEquals(List.of(BulkCreateResult.failed(0, "Mock API is rate limiting")), results);
+    }
+
+    @Test
+    void testCreateEmployees_BlockedListenerDoesNotHoldUpCalls() throws Exception {
+        List<CompletableFuture<Employee>> creates = new CopyOnWriteArrayList<>();
+        when(employeeApiClient.createEmployeeAsync(any(EmployeeInput.class))).thenAnswer(invocation -> {
+            CompletableFuture<Employee> create = new CompletableFuture<>();
+            creates.add(create);
+            return create;
+        });
+        List<EmployeeInput> inputs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            inputs.add(bulkInput("Hire " + i));
+        }
+        CountDownLatch listenerEntered = new CountDownLatch(1);
+        CountDownLatch releaseListener = new CountDownLatch(1);
+        List<BulkCreateResult> results = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<List<Employee>> bulk = employeeService.createEmployees(inputs, result -> {
+            listenerEntered.countDown();
+            try {
+                // Stands in for a client that has stopped reading the response.
+                releaseListener.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            results.add(result);
+        });
+        assertEquals(8, creates.size());
+
+        CompletableFuture<Void> stalled =
+                CompletableFuture.runAsync(() -> creates.get(0).complete(createEmployee("Hire 0", 50000)));
+        assertTrue(listenerEntered.await(5, TimeUnit.SECONDS));
+        // Completing another call frees its slot and starts the next one while the listener is still blocked.
+        CompletableFuture.runAsync(() -> creates.get(1).complete(createEmployee("Hire 1", 50000)))
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(9, creates.size());
+        assertTrue(results.isEmpty());
+
+        releaseListener.countDown();
+        stalled.get(5, TimeUnit.SECONDS);
+        for (int i = 2; i < 10; i++) {
+            creates.get(i).complete(createEmployee("Hire " + i, 50000));
+        }
+        assertEquals(10, bulk.get(5, TimeUnit.SECONDS).size());
+        assertEquals(10, results.size());
+    }
+
+    @Test
+    void testCreateEmployees_KeepsAtMostMaxInFlight() {
+        List<CompletableFuture<Employee>> creates = new ArrayList<>();
+        when(employeeApiClient.createEmployeeAsync(any(EmployeeInput.class))).thenAnswer(invocation -> {
+            CompletableFuture<Employee> create = new CompletableFuture<>();
+            creates.add(create);
+            return create;
+        });
+        List<EmployeeInput> inputs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            inputs.add(bulkInput("Hire " + i));
+        }
+
+        CompletableFuture<List<Employee>> bulk = employeeService.createEmployees(inputs, result -> {});
+        assertEquals(8, creates.size());
+
+        creates.get(0).complete(createEmployee("Hire 0", 50000));
+        assertEquals(9, creates.size());
+
+        for (int i = 1; i < 10; i++) {
+            creates.get(i).complete(createEmployee("Hire " + i, 50000));
+        }
+        assertEquals(10, bulk.join().size());
+    }
+
+    @Test
+    void testCreateEmployees_StopsWhenResultsCannotBeDelivered() {
+        when(employeeApiClient.createEmployeeAsync(any(EmployeeInput.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(createEmployee("Hire", 50000)));
+        List<EmployeeInput> inputs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            inputs.add(bulkInput("Hire " + i));
+        }
+
+        List<Employee> created = employeeService
+                .createEmployees(inputs, result -> {
+                    throw new IllegalStateException("Client disconnected");
+                })
+                .join();
+
+        assertEquals(1, created.size());
+        verify(employeeApiClient, times(1)).createEmployeeAsync(any(EmployeeInput.class));
+    }
+
+    @Test
+    void testDeleteEmployeesById_ResolvesNamesFromOneSnapshotAndPatchesOnce() {
+        when(employeeApiClient.streamAllEmployeesAsync(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streamingAsync(mockEmployees));
+        when(employeeApiClient.deleteEmployeeByNameAsync(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        String unknownId = UUID.randomUUID().toString();
+        when(employeeApiClient.getEmployeeByIdAsync(unknownId))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new EmployeeNotFoundException("Employee with id " + unknownId + " not found")));
+        String johnId = mockEmployees.get(0).getId().toString();
+        String janeId = mockEmployees.get(1).getId().toString();
+
+        List<BulkDeleteResult> results = new ArrayList<>();
+        List<Employee> deleted = employeeService
+                .deleteEmployeesById(List.of(johnId, janeId, unknownId, johnId), results::add)
+                .join();
+
+        assertEquals(List.of(mockEmployees.get(0), mockEmployees.get(1)), deleted);
+        assertEquals(
+                List.of(
+                        BulkDeleteResult.deleted(johnId, "John Doe"),
+                        BulkDeleteResult.deleted(janeId, "Jane Smith"),
+                        BulkDeleteResult.notFound(unknownId, "Employee with id " + unknownId + " not found")),
+                results);
+        assertEquals(List.of("Bob Johnson"), employeeService.getTopTenHighestEarningEmployeeNames());
+        verify(employeeApiClient, times(2)).deleteEmployeeByNameAsync(anyString());
+        verify(employeeApiClient, never()).getEmployeeByIdAsync(johnId);
+        verify(employeeApiClient, never()).getEmployeeByIdAsync(janeId);
+    }
+
+    @Test
+    void testDeleteEmployeesById_ReportsFailedDeletes() {
+        when(employeeApiClient.streamAllEmployeesAsync(eq(RequestPriority.HIGH), any()))
+                .thenAnswer(streamingAsync(mockEmployees));
+        when(employeeApiClient.deleteEmployeeByNameAsync("John Doe"))
+                .thenReturn(CompletableFuture.completedFuture(false));
+        String johnId = mockEmployees.get(0).getId().toString();
+
+        List<BulkDeleteResult> results = new ArrayList<>();
+        List<Employee> deleted = employeeService.deleteEmployeesById(List.of(johnId), results::add).join();
+
+        assertTrue(deleted.isEmpty());
+        assertEquals(
+                List.of(BulkDeleteResult.failed(johnId, "Failed to delete employee with id: " + johnId)), results);
+        assertEquals(3, employeeService.getAllEmployees().size());
+    }
+
+    private static EmployeeInput bulkInput(String name) {
+        return EmployeeInput.builder()
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .build();
+    }
+
+    private static Answer<Integer> streaming(List<Employee> employees) {
+        return invocation -> {
+            Consumer<Employee> sink = invocation.getArgument(1);
+            employees.forEach(sink);
+            return employees.size();
+        };
+    }
+
+    private static Answer<CompletableFuture<Integer>> streamingAsync(List<Employee> employees) {
+        return invocation -> CompletableFuture.completedFuture(streaming(employees).answer(invocation));
+    }
+
     private Employee createEmployee(String name, int salary) {
         return Employee.builder()
                 .id(UUID.randomUUID())
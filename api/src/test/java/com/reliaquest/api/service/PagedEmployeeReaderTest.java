@@ -0,0 +1,136 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.resilience.RequestPriority;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PagedEmployeeReaderTest {
+
+    @Mock
+    private EmployeeApiClient employeeApiClient;
+
+    /**
+     * The mock API's list by cursor.
+     */
+    private final NavigableMap<Long, Employee> upstream = new ConcurrentSkipListMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(employeeApiClient.streamEmployeePageAsync(any(), any(), any(), anyInt(), any()))
+                .thenAnswer(invocation -> page(
+                        invocation.getArgument(1),
+                        invocation.getArgument(2),
+                        invocation.getArgument(3),
+                        invocation.getArgument(4)));
+    }
+
+    @Test
+    void testRead_AssemblesConcurrentRangesInListOrder() {
+        List<Employee> expected = new ArrayList<>();
+        for (long cursor = 0; cursor < 100; cursor++) {
+            // Gaps left by deletes.
+            if (cursor % 3 != 1) {
+                Employee employee = employee(cursor);
+                upstream.put(cursor, employee);
+                expected.add(employee);
+            }
+        }
+        List<Employee> received = new ArrayList<>();
+
+        int count = new PagedEmployeeReader(employeeApiClient, RequestPriority.LOW, 7, 4)
+                .read(received::add)
+                .join();
+
+        assertEquals(expected.size(), count);
+        assertEquals(expected, received);
+        verify(employeeApiClient).streamEmployeePageAsync(eq(RequestPriority.LOW), isNull(), isNull(), eq(7), any());
+        verify(employeeApiClient, atLeast(3))
+                .streamEmployeePageAsync(eq(RequestPriority.LOW), notNull(), notNull(), eq(7), any());
+    }
+
+    @Test
+    void testRead_SinglePageNeedsOneCall() {
+        upstream.put(0L, employee(0));
+        upstream.put(1L, employee(1));
+        List<Employee> received = new ArrayList<>();
+
+        int count = new PagedEmployeeReader(employeeApiClient, RequestPriority.HIGH, 10, 4)
+                .read(received::add)
+                .join();
+
+        assertEquals(2, count);
+        assertEquals(List.of(upstream.get(0L), upstream.get(1L)), received);
+        verify(employeeApiClient, times(1)).streamEmployeePageAsync(any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void testRead_FailsWhenAnyPageFails() {
+        for (long cursor = 0; cursor < 20; cursor++) {
+            upstream.put(cursor, employee(cursor));
+        }
+        // The second range starts after cursor 11: the first page ends at 3, and 4 to 19 splits at 11.
+        doReturn(CompletableFuture.failedFuture(new EmployeeApiException("API call failed: 500")))
+                .when(employeeApiClient)
+                .streamEmployeePageAsync(any(), eq(11L), any(), anyInt(), any());
+
+        CompletableFuture<Integer> read =
+                new PagedEmployeeReader(employeeApiClient, RequestPriority.HIGH, 4, 2).read(employee -> {});
+
+        CompletionException exception = assertThrows(CompletionException.class, read::join);
+        assertInstanceOf(EmployeeApiException.class, exception.getCause());
+    }
+
+    /**
+     * Serves a page the way the mock API does, on another thread.
+     */
+    private CompletableFuture<EmployeeApiClient.Page> page(Long after, Long until, int limit, Consumer<Employee> sink) {
+        return CompletableFuture.supplyAsync(() -> {
+            NavigableMap<Long, Employee> range = upstream;
+            if (after != null) {
+                range = range.tailMap(after, false);
+            }
+            if (until != null) {
+                range = range.headMap(until, true);
+            }
+            List<Map.Entry<Long, Employee>> entries = range.entrySet().stream().limit(limit + 1).toList();
+            int count = Math.min(limit, entries.size());
+            entries.subList(0, count).forEach(entry -> sink.accept(entry.getValue()));
+            Long nextCursor = entries.size() > limit ? entries.get(limit - 1).getKey() : null;
+            return new EmployeeApiClient.Page(count, nextCursor, upstream.lastKey());
+        });
+    }
+
+    private static Employee employee(long cursor) {
+        return Employee.builder()
+                .id(new UUID(0, cursor))
+                .name("Employee " + cursor)
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .email("employee" + cursor + "@company.com")
+                .build();
+    }
+}
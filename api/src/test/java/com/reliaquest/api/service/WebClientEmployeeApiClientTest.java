@@ -0,0 +1,210 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.RateLimitException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Runs the {@link WebClientEmployeeApiClient} against a stub mock API, since {@code MockRestServiceServer} only binds
+ * to {@code RestTemplate}. Covers the same cases as {@link EmployeeApiClientTest}.
+ */
+@SpringBootTest(
+        properties = {
+            "mock.api.client.type=web-client",
+            "mock.api.retry.max-attempts=3",
+            "mock.api.retry.initial-delay-ms=10",
+            "mock.api.retry.multiplier=2",
+            "mock.api.rate-limit.enabled=false",
+            "mock.api.cache.refresh-ahead.enabled=false"
+        })
+class WebClientEmployeeApiClientTest {
+
+    private static final Queue<StubResponse> responses = new ConcurrentLinkedQueue<>();
+    private static final List<String> requests = new ArrayList<>();
+    private static final HttpServer upstream = startUpstream();
+
+    @Autowired
+    private EmployeeApiClient employeeApiClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add(
+                "mock.api.base-url",
+                () -> "http://localhost:" + upstream.getAddress().getPort() + "/api/v1/employee");
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        responses.clear();
+        synchronized (requests) {
+            requests.clear();
+        }
+    }
+
+    @Test
+    void testClientSelection() {
+        assertInstanceOf(WebClientEmployeeApiClient.class, employeeApiClient);
+    }
+
+    @Test
+    void testGetAllEmployees_Success() throws Exception {
+        respond(200, new ApiResponse<>(List.of(createEmployee("John Doe")), "Successfully processed request.", null));
+
+        List<Employee> result = employeeApiClient.getAllEmployees();
+
+        assertEquals(1, result.size());
+        assertEquals("John Doe", result.get(0).getName());
+        assertEquals(List.of("GET /api/v1/employee "), requests());
+    }
+
+    @Test
+    void testGetEmployeeById_Success() throws Exception {
+        Employee employee = createEmployee("John Doe");
+        respond(200, new ApiResponse<>(employee, "Successfully processed request.", null));
+
+        Employee result = employeeApiClient.getEmployeeById(employee.getId().toString());
+
+        assertEquals("John Doe", result.getName());
+        assertEquals(List.of("GET /api/v1/employee/" + employee.getId() + " "), requests());
+    }
+
+    @Test
+    void testGetEmployeeById_NotFound() {
+        responses.add(new StubResponse(404, ""));
+
+        assertThrows(
+                EmployeeNotFoundException.class,
+                () -> employeeApiClient.getEmployeeById(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    void testCreateEmployee_Success() throws Exception {
+        EmployeeInput input = EmployeeInput.builder()
+                .name("New Employee")
+                .salary(80000)
+                .age(25)
+                .title("Junior Developer")
+                .build();
+        respond(200, new ApiResponse<>(createEmployee("New Employee"), "Successfully processed request.", null));
+
+        Employee result = employeeApiClient.createEmployee(input);
+
+        assertEquals("New Employee", result.getName());
+        assertTrue(requests().get(0).startsWith("POST /api/v1/employee {"));
+    }
+
+    @Test
+    void testDeleteEmployeeByName_SendsNameInBody() throws Exception {
+        respond(200, new ApiResponse<>(true, "Successfully processed request.", null));
+
+        assertTrue(employeeApiClient.deleteEmployeeByName("John Doe"));
+        assertEquals(List.of("DELETE /api/v1/employee {\"name\":\"John Doe\"}"), requests());
+    }
+
+    @Test
+    void testRateLimitRetry_SuccessAfterRetry() throws Exception {
+        responses.add(new StubResponse(429, ""));
+        respond(200, new ApiResponse<>(List.of(createEmployee("John Doe")), "Successfully processed request.", null));
+
+        assertEquals(1, employeeApiClient.getAllEmployees().size());
+        assertEquals(2, requests().size());
+    }
+
+    @Test
+    void testRateLimitRetry_MaxAttemptsExceeded() {
+        for (int i = 0; i < 3; i++) {
+            responses.add(new StubResponse(429, ""));
+        }
+
+        assertThrows(RateLimitException.class, () -> employeeApiClient.getAllEmployees());
+        assertEquals(3, requests().size());
+    }
+
+    @Test
+    void testApiError_InternalServerError() {
+        responses.add(new StubResponse(500, ""));
+
+        assertThrows(EmployeeApiException.class, () -> employeeApiClient.getAllEmployees());
+        assertEquals(1, requests().size());
+    }
+
+    private void respond(int status, ApiResponse<?> body) throws Exception {
+        responses.add(new StubResponse(status, objectMapper.writeValueAsString(body)));
+    }
+
+    private static List<String> requests() {
+        synchronized (requests) {
+            return List.copyOf(requests);
+        }
+    }
+
+    private static HttpServer startUpstream() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/v1/employee", exchange -> {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                synchronized (requests) {
+                    requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath() + " " + body);
+                }
+                StubResponse response = responses.poll();
+                if (response == null) {
+                    response = new StubResponse(500, "");
+                }
+                byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(response.status(), bytes.length == 0 ? -1 : bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Employee createEmployee(String name) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100000)
+                .age(30)
+                .title("Developer")
+                .email("employee@company.com")
+                .build();
+    }
+
+    private record StubResponse(int status, String body) {}
+}
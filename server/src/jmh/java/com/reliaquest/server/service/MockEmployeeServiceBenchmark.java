@@ -0,0 +1,132 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Page;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of the {@link MockEmployeeService} store with 50 and 10k employees under concurrent requests. Reads are
+ * the lookup behind {@code GET /{id}}, a walk of the whole list as the list body renders it, and a page, both from the
+ * start of the list and within an {@code after}/{@code until} range. A write is a create followed by a delete of the
+ * same employee, so the store keeps its size. Run it at each thread count with {@code -t}, e.g.
+ * {@code ./gradlew server:jmh -PjmhArgs="MockEmployeeServiceBenchmark -t 32"} for 1, 2, 4, 8, 16 and 32 threads. The
+ * {@code mixed} group runs three readers per writer; scale it with {@code -tg}, e.g. {@code -tg 24,8}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"50", "10000"})
+    private int size;
+
+    private MockEmployeeService mockEmployeeService;
+    private UUID[] ids;
+
+    @Setup
+    public void setUp() {
+        List<MockEmployee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee " + i)
+                    .salary(30000 + i)
+                    .age(16 + i % 60)
+                    .title("Engineer")
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        mockEmployeeService = new MockEmployeeService(new Faker(Locale.ROOT), employees);
+        mockEmployeeService.index();
+        ids = employees.stream().map(MockEmployee::getId).toArray(UUID[]::new);
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return mockEmployeeService.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    public void getEmployees(Blackhole blackhole) {
+        mockEmployeeService.snapshot().getEmployees().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public Page<MockEmployee> page() {
+        return mockEmployeeService.page(null, null, 100);
+    }
+
+    @Benchmark
+    public Page<MockEmployee> boundedPage() {
+        return mockEmployeeService.page(size / 4L, size * 3L / 4, 100);
+    }
+
+    @Benchmark
+    public boolean createAndDelete(Writer writer) {
+        mockEmployeeService.create(writer.create);
+        return mockEmployeeService.delete(writer.delete);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public Optional<MockEmployee> mixedFindById() {
+        return findById();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public boolean mixedCreateAndDelete(Writer writer) {
+        return createAndDelete(writer);
+    }
+
+    /**
+     * A name of its own per writing thread, so each delete removes the employee that thread just created.
+     */
+    @State(Scope.Thread)
+    public static class Writer {
+
+        private static final AtomicInteger WRITERS = new AtomicInteger();
+
+        private final CreateMockEmployeeInput create = new CreateMockEmployeeInput();
+        private final DeleteMockEmployeeInput delete = new DeleteMockEmployeeInput();
+
+        @Setup
+        public void setUp() {
+            String name = "Benchmark Writer " + WRITERS.incrementAndGet();
+            create.setName(name);
+            create.setSalary(50000);
+            create.setAge(30);
+            create.setTitle("Engineer");
+            delete.setName(name);
+        }
+    }
+}
@@ -2,17 +2,20 @@ package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.web.VersionedEmployeeList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,17 +24,30 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    /*
+     * Looked up lazily: it depends on the mockEmployees bean defined here.
+     */
+    private final ObjectProvider<VersionedEmployeeList> versionedEmployeeList;
+
+    @Value("${mock.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${mock.rate-limit.exempt-revalidations:false}")
+    private boolean exemptRevalidations;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The employees the store starts with. MockEmployeeService copies them into its own indexed store for CRUD
+     * operations.
      */
     @Bean
     public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
@@ -54,6 +70,14 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (rateLimitEnabled && exemptRevalidations) {
+            log.info("Employee list revalidations are exempt from request rate limiting");
+            registry.addInterceptor(new RandomRequestLimitInterceptor(
+                    (request, handler) -> versionedEmployeeList.getObject().isRevalidation(request, handler)));
+        } else if (rateLimitEnabled) {
+            registry.addInterceptor(new RandomRequestLimitInterceptor());
+        } else {
+            log.warn("Request rate limiting is disabled");
+        }
     }
 }
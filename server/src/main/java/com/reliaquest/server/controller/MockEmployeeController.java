@@ -3,13 +3,17 @@ package com.reliaquest.server.controller;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Page;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.VersionedEmployeeList;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,6 +21,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -25,10 +30,43 @@ import org.springframework.web.bind.annotation.RestController;
 public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
+    private final VersionedEmployeeList versionedEmployeeList;
 
+    @Value("${mock.employees.page-size:100}")
+    private int defaultPageSize = 100;
+
+    @Value("${mock.employees.max-page-size:1000}")
+    private int maxPageSize = 1000;
+
+    /*
+     * Served from the body rendered for the current version. Spring answers an If-None-Match that matches the ETag
+     * with 304 and no body. A revalidation let through the rate limit is answered with 304 for the version it matched,
+     * without rendering, even if the list has changed since.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<byte[]> getEmployees(HttpServletRequest request) {
+        String revalidated = versionedEmployeeList.revalidatedEtag(request);
+        if (revalidated != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(revalidated).build();
+        }
+        VersionedEmployeeList.Body body = versionedEmployeeList.current();
+        return ResponseEntity.ok()
+                .eTag(body.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body.json());
+    }
+
+    /*
+     * Cursor pagination over the same list, in insertion order. Pass a page's next_cursor as after to read the rest of
+     * the range; until bounds the range so that clients can read disjoint ranges concurrently.
+     */
+    @GetMapping("/page")
+    public Page<MockEmployee> getEmployeePage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Long until,
+            @RequestParam(required = false) Integer limit) {
+        int pageSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        return mockEmployeeService.page(after, until, pageSize);
     }
 
     @GetMapping("/{id}")
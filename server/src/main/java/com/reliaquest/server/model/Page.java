@@ -0,0 +1,22 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * One page of a list in the shape of {@link Response}, plus the cursors to continue from. {@code next_cursor} is set
+ * when the requested range has more items after this page; {@code end_cursor} is the cursor of the last item in the
+ * whole list when the page was read.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record Page<T>(
+        List<T> data,
+        Response.Status status,
+        @JsonProperty("next_cursor") Long nextCursor,
+        @JsonProperty("end_cursor") Long endCursor) {
+
+    public static <T> Page<T> of(List<T> data, Long nextCursor, Long endCursor) {
+        return new Page<>(data, Response.Status.HANDLED, nextCursor, endCursor);
+    }
+}
@@ -4,17 +4,26 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Page;
+import jakarta.annotation.PostConstruct;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import org.springframework.stereotype.Service;
 
+/**
+ * The mock employee store, published as a {@link MockEmployeeSnapshot}.
+ *
+ * <p>Reads take the current snapshot and never lock, so concurrent requests never see a half-applied change. Writes
+ * are serialized by a lock and each builds the next snapshot from the current one exactly once. A write copies the
+ * snapshot's maps, so it costs O(n) in the size of the store; holding the lock means that copy is never repeated
+ * because another write got there first.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -22,37 +31,92 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    /*
+     * The generated employees the store starts with. Not read after startup.
+     */
+    private final List<MockEmployee> initialEmployees;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /*
+     * Written under writeLock.
+     */
+    private volatile MockEmployeeSnapshot store = MockEmployeeSnapshot.of(List.of());
+
+    @PostConstruct
+    void index() {
+        store = MockEmployeeSnapshot.of(initialEmployees);
+    }
+
+    /**
+     * @return the current version of the store, which does not change while it is read
+     */
+    public MockEmployeeSnapshot snapshot() {
+        return store;
+    }
+
+    /**
+     * @return the employees in insertion order
+     */
+    public List<MockEmployee> getMockEmployees() {
+        return List.copyOf(store.getEmployees());
+    }
+
+    /**
+     * @return the version of the store, bumped by every change
+     */
+    public long getVersion() {
+        return store.getVersion();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return store.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = MockEmployee.from(ServerConfiguration.EMAIL_TEMPLATE.formatted(userName()), input);
+        writeLock.lock();
+        try {
+            store = store.with(mockEmployee);
+        } finally {
+            writeLock.unlock();
+        }
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Removes the first employee in list order whose name matches {@code input}'s, ignoring case.
+     */
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
+        writeLock.lock();
+        try {
+            final var current = store;
+            final var sequence = current.firstSequenceNamed(input.getName());
+            if (sequence == null) {
+                return false;
+            }
+            store = current.without(sequence);
+            log.debug("Removed employee: {}", current.get(sequence));
             return true;
+        } finally {
+            writeLock.unlock();
         }
+    }
 
-        return false;
+    /**
+     * @see MockEmployeeSnapshot#page(Long, Long, int)
+     */
+    public Page<MockEmployee> page(Long after, Long until, int limit) {
+        return store.page(after, until, limit);
+    }
+
+    /*
+     * Faker is not documented as thread-safe, and creates run on concurrent request threads.
+     */
+    private String userName() {
+        synchronized (faker) {
+            return faker.twitter().userName().toLowerCase();
+        }
     }
 }
@@ -0,0 +1,192 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Page;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * One immutable version of the mock employee store. Employees are kept in insertion order, keyed by an insertion
+ * sequence that is never reused, and indexed by id and by case-folded name so that lookups and deletes do not scan the
+ * list.
+ *
+ * <p>A change copies the store into a new snapshot with the next version and leaves this one as it was, so a reader
+ * can hold on to a snapshot for as long as it needs a consistent view without locking.
+ */
+public final class MockEmployeeSnapshot {
+
+    @Getter
+    private final long version;
+
+    private final long nextSequence;
+
+    /**
+     * Employees by insertion sequence. Sequences ascend through the list, so a sequence serves as a cursor that stays
+     * valid across creates and deletes.
+     */
+    private final NavigableMap<Long, MockEmployee> employeesBySequence;
+
+    private final Map<UUID, MockEmployee> employeesById;
+
+    /**
+     * Sequences of the employees with each {@link #fold(String) case-folded} name, in ascending order, so the first is
+     * the first match in list order.
+     */
+    private final Map<String, List<Long>> sequencesByName;
+
+    private MockEmployeeSnapshot(
+            long version,
+            long nextSequence,
+            TreeMap<Long, MockEmployee> employeesBySequence,
+            HashMap<UUID, MockEmployee> employeesById,
+            HashMap<String, List<Long>> sequencesByName) {
+        this.version = version;
+        this.nextSequence = nextSequence;
+        this.employeesBySequence = Collections.unmodifiableNavigableMap(employeesBySequence);
+        this.employeesById = Collections.unmodifiableMap(employeesById);
+        this.sequencesByName = Collections.unmodifiableMap(sequencesByName);
+    }
+
+    /**
+     * @return version 0 of a store holding {@code employees}, in order
+     */
+    static MockEmployeeSnapshot of(List<MockEmployee> employees) {
+        final var employeesBySequence = new TreeMap<Long, MockEmployee>();
+        final var employeesById = new HashMap<UUID, MockEmployee>();
+        final var sequencesByName = new HashMap<String, List<Long>>();
+        long sequence = 0;
+        for (MockEmployee employee : employees) {
+            add(employee, sequence++, employeesBySequence, employeesById, sequencesByName);
+        }
+        return new MockEmployeeSnapshot(0, sequence, employeesBySequence, employeesById, sequencesByName);
+    }
+
+    /**
+     * @return the employees in insertion order, as an unmodifiable view
+     */
+    public Collection<MockEmployee> getEmployees() {
+        return employeesBySequence.values();
+    }
+
+    Optional<MockEmployee> findById(UUID uuid) {
+        return Optional.ofNullable(employeesById.get(uuid));
+    }
+
+    /**
+     * @return the sequence of the first employee in list order whose name matches {@code name}, ignoring case, or null
+     */
+    Long firstSequenceNamed(String name) {
+        final var sequences = sequencesByName.get(fold(name));
+        return sequences == null ? null : sequences.get(0);
+    }
+
+    MockEmployee get(long sequence) {
+        return employeesBySequence.get(sequence);
+    }
+
+    /**
+     * @return the next version, with {@code employee} added to the end of the list
+     */
+    MockEmployeeSnapshot with(MockEmployee employee) {
+        final var employeesBySequence = new TreeMap<>(this.employeesBySequence);
+        final var employeesById = new HashMap<>(this.employeesById);
+        final var sequencesByName = new HashMap<>(this.sequencesByName);
+        add(employee, nextSequence, employeesBySequence, employeesById, sequencesByName);
+        return new MockEmployeeSnapshot(
+                version + 1, nextSequence + 1, employeesBySequence, employeesById, sequencesByName);
+    }
+
+    /**
+     * @return the next version, without the employee at {@code sequence}
+     */
+    MockEmployeeSnapshot without(long sequence) {
+        final var employeesBySequence = new TreeMap<>(this.employeesBySequence);
+        final var employee = employeesBySequence.remove(sequence);
+        if (employee == null) {
+            return this;
+        }
+        final var employeesById = new HashMap<>(this.employeesById);
+        final var sequencesByName = new HashMap<>(this.sequencesByName);
+        if (Objects.nonNull(employee.getId())) {
+            employeesById.remove(employee.getId());
+        }
+        if (Objects.nonNull(employee.getName())) {
+            sequencesByName.computeIfPresent(fold(employee.getName()), (ignored, sequences) -> {
+                final var remaining = new ArrayList<>(sequences);
+                remaining.remove(Long.valueOf(sequence));
+                return remaining.isEmpty() ? null : List.copyOf(remaining);
+            });
+        }
+        return new MockEmployeeSnapshot(version + 1, nextSequence, employeesBySequence, employeesById, sequencesByName);
+    }
+
+    /**
+     * Returns up to {@code limit} employees in insertion order, from the first after cursor {@code after} up to and
+     * including cursor {@code until}. Either bound may be null for the start or end of the list. Each employee's
+     * cursor is its insertion sequence. The range is empty when {@code until} is not after {@code after}.
+     */
+    Page<MockEmployee> page(Long after, Long until, int limit) {
+        Long endCursor = employeesBySequence.isEmpty() ? null : employeesBySequence.lastKey();
+        if (after != null && until != null && after >= until) {
+            return Page.of(List.of(), null, endCursor);
+        }
+        NavigableMap<Long, MockEmployee> range = employeesBySequence;
+        if (after != null) {
+            range = range.tailMap(after, false);
+        }
+        if (until != null) {
+            range = range.headMap(until, true);
+        }
+        Iterator<Map.Entry<Long, MockEmployee>> entries = range.entrySet().iterator();
+        // Not sized from range.size(): a bounded view counts its entries one by one.
+        List<MockEmployee> employees = new ArrayList<>(Math.min(limit, 1024));
+        Long last = null;
+        while (entries.hasNext() && employees.size() < limit) {
+            Map.Entry<Long, MockEmployee> entry = entries.next();
+            employees.add(entry.getValue());
+            last = entry.getKey();
+        }
+        return Page.of(employees, entries.hasNext() ? last : null, endCursor);
+    }
+
+    private static void add(
+            MockEmployee employee,
+            long sequence,
+            Map<Long, MockEmployee> employeesBySequence,
+            Map<UUID, MockEmployee> employeesById,
+            Map<String, List<Long>> sequencesByName) {
+        employeesBySequence.put(sequence, employee);
+        if (Objects.nonNull(employee.getId())) {
+            employeesById.put(employee.getId(), employee);
+        }
+        if (Objects.nonNull(employee.getName())) {
+            sequencesByName.merge(fold(employee.getName()), List.of(sequence), (sequences, added) -> {
+                final var appended = new ArrayList<>(sequences);
+                appended.addAll(added);
+                return List.copyOf(appended);
+            });
+        }
+    }
+
+    /**
+     * Folds {@code name} the way {@link String#equalsIgnoreCase(String)} compares it, so that two names share a key
+     * exactly when they are equal ignoring case.
+     */
+    private static String fold(String name) {
+        return name.codePoints()
+                .map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                .toString();
+    }
+}
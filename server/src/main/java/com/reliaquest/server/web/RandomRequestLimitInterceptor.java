@@ -5,6 +5,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiPredicate;
 import java.util.random.RandomGenerator;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
@@ -18,8 +19,24 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
     private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
 
+    private final BiPredicate<HttpServletRequest, Object> exempt;
+
+    public RandomRequestLimitInterceptor() {
+        this((request, handler) -> false);
+    }
+
+    /**
+     * @param exempt requests that are let through without counting towards the limit, even while it is in force
+     */
+    public RandomRequestLimitInterceptor(BiPredicate<HttpServletRequest, Object> exempt) {
+        this.exempt = exempt;
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (exempt.test(request, handler)) {
+            return true;
+        }
         if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
             if (Instant.now()
                     .minus(REQUEST_BACKOFF_DURATION)
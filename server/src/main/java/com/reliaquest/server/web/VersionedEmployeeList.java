@@ -0,0 +1,108 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeSnapshot;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.UncheckedIOException;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * The body of {@code GET /api/v1/employee}, serialized once per {@link MockEmployeeSnapshot#getVersion() version} of
+ * the employee store and tagged with an {@code ETag} for that version.
+ *
+ * <p>Tags are weak so that {@code server.compression} still applies; Tomcat does not compress responses with a strong
+ * tag. They also carry the time this server started, because versions restart at 0 with a new list of employees.
+ */
+@Component
+@RequiredArgsConstructor
+public class VersionedEmployeeList {
+
+    private static final String REVALIDATED_VERSION = VersionedEmployeeList.class.getName() + ".revalidatedVersion";
+
+    private final MockEmployeeService mockEmployeeService;
+    private final ObjectMapper objectMapper;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ReentrantLock renderLock = new ReentrantLock();
+
+    private volatile Body body;
+
+    /**
+     * @return the serialized list at the current version, rendering it if this version has not been rendered yet
+     */
+    public Body current() {
+        MockEmployeeSnapshot snapshot = mockEmployeeService.snapshot();
+        long version = snapshot.getVersion();
+        Body cached = body;
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+        renderLock.lock();
+        try {
+            cached = body;
+            if (cached != null && cached.version() == version) {
+                return cached;
+            }
+            Body rendered = new Body(version, etag(version), render(snapshot));
+            if (cached == null || cached.version() < version) {
+                body = rendered;
+            }
+            return rendered;
+        } finally {
+            renderLock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether {@code request} asks for the employee list with an {@code If-None-Match} that matches the current
+     * version. If it does, the version is recorded on the request, and {@link #revalidatedEtag(HttpServletRequest)}
+     * makes sure it is answered with {@code 304 Not Modified} even if the store changes before the handler runs.
+     *
+     * @return whether {@code request} will be answered with {@code 304 Not Modified}
+     */
+    public boolean isRevalidation(HttpServletRequest request, Object handler) {
+        if (!(HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod()))
+                || request.getHeader("If-None-Match") == null
+                || !(handler instanceof HandlerMethod method)
+                || method.getBeanType() != MockEmployeeController.class
+                || !method.getMethod().getName().equals("getEmployees")) {
+            return false;
+        }
+        long version = mockEmployeeService.getVersion();
+        if (!new ServletWebRequest(request).checkNotModified(etag(version))) {
+            return false;
+        }
+        request.setAttribute(REVALIDATED_VERSION, version);
+        return true;
+    }
+
+    /**
+     * @return the tag of the version {@link #isRevalidation(HttpServletRequest, Object)} matched for {@code request},
+     *     or null if it did not match one
+     */
+    public String revalidatedEtag(HttpServletRequest request) {
+        return request.getAttribute(REVALIDATED_VERSION) instanceof Long version ? etag(version) : null;
+    }
+
+    private String etag(long version) {
+        return "W/\"" + epoch + "-" + version + "\"";
+    }
+
+    private byte[] render(MockEmployeeSnapshot snapshot) {
+        try {
+            return objectMapper.writeValueAsBytes(Response.handledWith(snapshot.getEmployees()));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record Body(long version, String etag, byte[] json) {}
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.VersionedEmployeeList;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.method.HandlerMethod;
+
+@SpringBootTest(properties = {"mock.rate-limit.enabled=true", "mock.rate-limit.exempt-revalidations=true"})
+@AutoConfigureMockMvc
+class RevalidationExemptionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MockEmployeeController mockEmployeeController;
+
+    @Autowired
+    private MockEmployeeService mockEmployeeService;
+
+    @Autowired
+    private VersionedEmployeeList versionedEmployeeList;
+
+    @Test
+    void testRevalidations_AnsweredWhileOtherRequestsAreRateLimited() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // More revalidations than the limit allows requests: none of them count towards it.
+        for (int i = 0; i < 20; i++) {
+            mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+        }
+
+        // The limit is at most 10 requests, so other requests are limited by the 11th at the latest.
+        int pageStatus = HttpStatus.OK.value();
+        for (int i = 0; i < 10 && pageStatus != HttpStatus.TOO_MANY_REQUESTS.value(); i++) {
+            pageStatus = mockMvc.perform(get("/api/v1/employee/page"))
+                    .andReturn()
+                    .getResponse()
+                    .getStatus();
+        }
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), pageStatus);
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mockMvc.perform(get("/api/v1/employee")).andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void testRevalidation_NotModifiedForTheVersionItMatched() throws Exception {
+        String etag = versionedEmployeeList.current().etag();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        HandlerMethod handler = new HandlerMethod(mockEmployeeController, "getEmployees", HttpServletRequest.class);
+        assertTrue(versionedEmployeeList.isRevalidation(request, handler));
+
+        // The list changes after the request was let through as a revalidation, before the handler runs.
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName("Jane Doe");
+        input.setSalary(50000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        mockEmployeeService.create(input);
+
+        ResponseEntity<byte[]> response = mockEmployeeController.getEmployees(request);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(etag, response.getHeaders().getETag());
+        assertNull(response.getBody());
+    }
+}
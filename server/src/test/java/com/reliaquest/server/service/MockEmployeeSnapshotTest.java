@@ -0,0 +1,201 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Page;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeSnapshotTest {
+
+    @Test
+    void testFirstSequenceNamed_MatchesTheFirstEmployeeInListOrder() {
+        MockEmployeeSnapshot snapshot = MockEmployeeSnapshot.of(
+                List.of(employee("Jane Doe"), employee("John Smith"), employee("JANE DOE"), employee("jane doe")));
+
+        assertEquals(0L, snapshot.firstSequenceNamed("jane doe"));
+
+        MockEmployeeSnapshot deleted = snapshot.without(snapshot.firstSequenceNamed("jane doe"));
+
+        assertEquals(2L, deleted.firstSequenceNamed("Jane Doe"));
+        assertEquals(
+                List.of("John Smith", "JANE DOE", "jane doe"),
+                deleted.getEmployees().stream().map(MockEmployee::getName).toList());
+    }
+
+    @Test
+    void testFirstSequenceNamed_MatchesNamesEqualIgnoringCase() {
+        // Final sigma and the Kelvin sign only equal their counterparts once case-folded both ways.
+        MockEmployeeSnapshot snapshot =
+                MockEmployeeSnapshot.of(List.of(employee("ΟΔΥΣΣΕΥΣ"), employee("\u212Aate Bell")));
+
+        assertTrue("οδυσσευς".equalsIgnoreCase("ΟΔΥΣΣΕΥΣ"));
+        assertTrue("kate bell".equalsIgnoreCase("\u212Aate Bell"));
+        assertEquals(0L, snapshot.firstSequenceNamed("οδυσσευς"));
+        assertEquals(1L, snapshot.firstSequenceNamed("kate bell"));
+        assertEquals(1L, snapshot.firstSequenceNamed("KATE BELL"));
+        assertNull(snapshot.firstSequenceNamed("Kate"));
+    }
+
+    @Test
+    void testPage_CursorsSurviveCreatesAndDeletes() {
+        MockEmployeeSnapshot snapshot = MockEmployeeSnapshot.of(
+                List.of(employee("A"), employee("B"), employee("C"), employee("D"), employee("E")));
+
+        Page<MockEmployee> first = snapshot.page(null, null, 2);
+        assertEquals(List.of("A", "B"), names(first));
+        assertEquals(1L, first.nextCursor());
+        assertEquals(4L, first.endCursor());
+
+        // Remove an employee from the page already read and one not read yet, then add one at the end.
+        MockEmployeeSnapshot changed = snapshot.without(snapshot.firstSequenceNamed("A"))
+                .without(snapshot.firstSequenceNamed("D"))
+                .with(employee("F"));
+
+        Page<MockEmployee> second = changed.page(first.nextCursor(), null, 2);
+        assertEquals(List.of("C", "E"), names(second));
+        Page<MockEmployee> third = changed.page(second.nextCursor(), null, 2);
+        assertEquals(List.of("F"), names(third));
+        assertNull(third.nextCursor());
+        assertEquals(5L, third.endCursor());
+    }
+
+    @Test
+    void testPage_StopsAtUntilCursor() {
+        MockEmployeeSnapshot snapshot =
+                MockEmployeeSnapshot.of(List.of(employee("A"), employee("B"), employee("C"), employee("D")));
+
+        Page<MockEmployee> page = snapshot.page(0L, 2L, 10);
+
+        assertEquals(List.of("B", "C"), names(page));
+        assertNull(page.nextCursor());
+        assertEquals(3L, page.endCursor());
+    }
+
+    @Test
+    void testPage_EmptyWhenUntilIsNotAfterAfter() {
+        MockEmployeeSnapshot snapshot =
+                MockEmployeeSnapshot.of(List.of(employee("A"), employee("B"), employee("C"), employee("D")));
+
+        for (long until : new long[] {2L, 1L}) {
+            Page<MockEmployee> page = snapshot.page(2L, until, 10);
+
+            assertEquals(List.of(), page.data());
+            assertNull(page.nextCursor());
+            assertEquals(3L, page.endCursor());
+        }
+    }
+
+    @Test
+    void testWithAndWithout_BumpTheVersionAndLeaveTheOriginalAsItWas() {
+        MockEmployeeSnapshot initial = MockEmployeeSnapshot.of(List.of(employee("A")));
+        MockEmployee added = employee("B");
+
+        MockEmployeeSnapshot created = initial.with(added);
+        MockEmployeeSnapshot deleted = created.without(created.firstSequenceNamed("A"));
+
+        assertEquals(0, initial.getVersion());
+        assertEquals(1, created.getVersion());
+        assertEquals(2, deleted.getVersion());
+        assertEquals(List.of("A"), initial.getEmployees().stream().map(MockEmployee::getName).toList());
+        assertTrue(initial.findById(added.getId()).isEmpty());
+        assertEquals(added, deleted.findById(added.getId()).orElseThrow());
+        assertSame(deleted, deleted.without(0), "Removing a missing sequence is not a change");
+    }
+
+    @Test
+    void testConcurrentCreatesAndDeletes_LoseNoUpdates() throws Exception {
+        int threads = 8;
+        int createsPerThread = 100;
+        int deletesPerThread = 40;
+        List<MockEmployee> shared = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            shared.add(employee("Shared"));
+        }
+        MockEmployeeService mockEmployeeService = new MockEmployeeService(new Faker(Locale.ROOT), shared);
+        mockEmployeeService.index();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> writers = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                String name = "Writer " + t;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    int deleted = 0;
+                    for (int i = 0; i < createsPerThread; i++) {
+                        mockEmployeeService.create(createInput(name));
+                        if (i < deletesPerThread && mockEmployeeService.delete(deleteInput("shared"))) {
+                            deleted++;
+                        }
+                    }
+                    return deleted;
+                }));
+            }
+            start.countDown();
+            int deleted = 0;
+            for (Future<Integer> writer : writers) {
+                deleted += writer.get(30, TimeUnit.SECONDS);
+            }
+
+            // Every thread's deletes of the shared name succeed, since there are more shared employees than deletes.
+            assertEquals(threads * deletesPerThread, deleted);
+            List<MockEmployee> employees = mockEmployeeService.getMockEmployees();
+            assertEquals(shared.size() - deleted + threads * createsPerThread, employees.size());
+            for (int t = 0; t < threads; t++) {
+                String name = "Writer " + t;
+                assertEquals(
+                        createsPerThread,
+                        employees.stream()
+                                .filter(employee -> name.equals(employee.getName()))
+                                .count());
+            }
+            assertEquals(threads * createsPerThread + deleted, mockEmployeeService.getVersion());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<String> names(Page<MockEmployee> page) {
+        return page.data().stream().map(MockEmployee::getName).toList();
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+
+    private static CreateMockEmployeeInput createInput(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(50000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput deleteInput(String name) {
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+}